@@ -1,26 +1,41 @@
 package New.Poll.App.Evercare.Polling.System.Config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-
-import java.util.concurrent.Executor;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class AsyncConfig {
 
-    @Bean(name = "webSocketTaskExecutor")
-    public Executor webSocketTaskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);          // Minimum threads
-        executor.setMaxPoolSize(20);          // Maximum threads for 100 users
-        executor.setQueueCapacity(100);       // Queue size for pending tasks
-        executor.setThreadNamePrefix("ws-async-");
-        executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(30);
-        executor.initialize();
-        return executor;
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    // @Scheduled looks for this name; without it the jobs share one thread, because the
+    // WebSocket heartbeat schedulers make Boot's own taskScheduler back off
+    @Bean(name = "taskScheduler")
+    public TaskScheduler taskScheduler() {
+        if (virtualThreads) {
+            SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+            scheduler.setThreadNamePrefix("scheduling-");
+            scheduler.setVirtualThreads(true);
+            scheduler.setTaskTerminationTimeout(30 * 1000);
+            return scheduler;
+        }
+
+        // The broadcast flush must not wait behind the nightly archive run or the rate-limit sweep
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(4);
+        scheduler.setThreadNamePrefix("scheduling-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        scheduler.initialize();
+        return scheduler;
     }
 }
\ No newline at end of file
@@ -0,0 +1,217 @@
+package New.Poll.App.Evercare.Polling.System.Config;
+
+import New.Poll.App.Evercare.Polling.System.Service.RateLimitService;
+import New.Poll.App.Evercare.Polling.System.Service.VoterIdentityService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsProcessor;
+import org.springframework.web.cors.DefaultCorsProcessor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Throttles POST /responses/submit per client address and per poll code
+ * before the request reaches Spring MVC or the database. Rejected requests
+ * get 429 with Retry-After. The body is buffered to read the poll code and
+ * then replayed to the controller. A voter presenting a valid voter token is
+ * limited by token, so colleagues behind one NAT address do not share a
+ * bucket; anything else is limited by client address.
+ *
+ * Also throttles, per client address, POST /responses/voter-token without a
+ * valid voter cookie: that request mints a new voter token, and every token
+ * is another vote per poll.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String SUBMIT_PATH = "/responses/submit";
+    private static final String VOTER_TOKEN_PATH = "/responses/voter-token";
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+
+    @Autowired
+    private RateLimitService rateLimitService;
+
+    @Autowired
+    private VoterIdentityService voterIdentityService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.frontend.url}")
+    private String frontendUrl;
+
+    private final CorsProcessor corsProcessor = new DefaultCorsProcessor();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !(isSubmission(request) || issuesVoterToken(request));
+    }
+
+    private boolean isSubmission(HttpServletRequest request) {
+        return "POST".equals(request.getMethod()) && SUBMIT_PATH.equals(request.getServletPath());
+    }
+
+    // A token request without a token ResponseController would accept
+    private boolean issuesVoterToken(HttpServletRequest request) {
+        return "POST".equals(request.getMethod()) && VOTER_TOKEN_PATH.equals(request.getServletPath())
+                && validVoterToken(request) == null;
+    }
+
+    private String validVoterToken(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, VoterIdentityService.COOKIE_NAME);
+        return cookie != null && voterIdentityService.isValidToken(cookie.getValue()) ? cookie.getValue() : null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!isSubmission(request)) {
+            long retryAfterSeconds = rateLimitService.tryIssueVoterToken(request.getRemoteAddr());
+            if (retryAfterSeconds > 0) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+                writeError(request, response, HttpStatus.TOO_MANY_REQUESTS, "Too many new voters from this address, please retry later");
+                return;
+            }
+            chain.doFilter(request, response);
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body too large");
+            return;
+        }
+
+        String voterToken = validVoterToken(request);
+        String clientKey = voterToken != null ? "voter:" + voterToken : "address:" + request.getRemoteAddr();
+        long retryAfterSeconds = rateLimitService.tryAcquire(clientKey, readPollCode(body));
+        if (retryAfterSeconds > 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            writeError(request, response, HttpStatus.TOO_MANY_REQUESTS, "Too many submissions, please retry later");
+            return;
+        }
+
+        chain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    // Malformed bodies are left for the controller to reject; they are still limited per client
+    private String readPollCode(byte[] body) {
+        try {
+            JsonNode pollCode = objectMapper.readTree(body).get("pollCode");
+            return pollCode != null && pollCode.isTextual() ? pollCode.asText() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // Same body shape as GlobalExceptionHandler, with the CORS headers the SPA needs to read it
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String message) throws IOException {
+        corsProcessor.processRequest(SecurityConfig.corsConfiguration(frontendUrl), request, response);
+
+        Map<String, Object> error = new HashMap<>();
+        error.put("success", false);
+        error.put("error", message);
+        error.put("status", status.value());
+        error.put("timestamp", LocalDateTime.now());
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) {
+                    return input.read(buffer, offset, length);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // The whole body is already in memory, so it is all available at once
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,79 @@
+package New.Poll.App.Evercare.Polling.System.Config;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Field;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Fails startup when an index declared on an entity is missing from the
+ * database. ddl-auto=validate checks tables and columns but not indexes, so
+ * a skipped migration would otherwise only show up as slow queries.
+ */
+@Component
+@ConditionalOnProperty(name = "app.schema.verify-indexes", havingValue = "true", matchIfMissing = true)
+public class SchemaIndexVerifier implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaIndexVerifier.class);
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Set<String> expected = expectedIndexes();
+        List<String> present = jdbcTemplate.queryForList(
+                "SELECT indexname FROM pg_indexes WHERE schemaname = current_schema()", String.class);
+
+        Set<String> missing = new TreeSet<>(expected);
+        for (String name : present) {
+            missing.remove(name.toLowerCase());
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Missing database indexes " + missing
+                    + " - run the migrations in db/migration or set app.schema.verify-indexes=false");
+        }
+        logger.info("Verified {} database indexes", expected.size());
+    }
+
+    private Set<String> expectedIndexes() {
+        Set<String> names = new HashSet<>();
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            Class<?> type = entity.getJavaType();
+            Table table = type.getAnnotation(Table.class);
+            if (table != null) {
+                addAll(names, table.indexes());
+            }
+            for (Field field : type.getDeclaredFields()) {
+                CollectionTable collectionTable = field.getAnnotation(CollectionTable.class);
+                if (collectionTable != null) {
+                    addAll(names, collectionTable.indexes());
+                }
+            }
+        }
+        return names;
+    }
+
+    private static void addAll(Set<String> names, Index[] indexes) {
+        for (Index index : indexes) {
+            names.add(index.name().toLowerCase());
+        }
+    }
+}
\ No newline at end of file
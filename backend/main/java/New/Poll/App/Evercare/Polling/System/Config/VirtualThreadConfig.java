@@ -0,0 +1,38 @@
+package New.Poll.App.Evercare.Polling.System.Config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Guardrails for spring.threads.virtual.enabled=true, where Spring Boot runs
+ * Tomcat requests and @Scheduled work on virtual threads. The
+ * DataSource is wrapped so the number of threads using the connection pool
+ * stays bounded.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor(Environment environment) {
+        // Defaults to the Hikari pool size, so waiting happens on the permit queue rather than inside the pool
+        int maxConcurrency = environment.getProperty("app.datasource.max-concurrency", Integer.class,
+                environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        long acquireTimeoutMs = environment.getProperty("app.datasource.acquire-timeout-ms", Long.class, 5000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof BoundedDataSource)) {
+                    return new BoundedDataSource((DataSource) bean, maxConcurrency, acquireTimeoutMs);
+                }
+                return bean;
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -18,11 +18,39 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Value("${app.frontend.url}")
     private String frontendUrl;
 
+    // simple and postgres keep the in-memory broker; stomp-relay hands subscriptions to an external one
+    @Value("${app.websocket.broker:simple}")
+    private String brokerMode;
+
+    @Value("${app.websocket.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${app.websocket.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${app.websocket.relay.login:guest}")
+    private String relayLogin;
+
+    @Value("${app.websocket.relay.passcode:guest}")
+    private String relayPasscode;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic", "/queue")
-                .setHeartbeatValue(new long[]{25000, 25000})
-                .setTaskScheduler(heartbeatScheduler());
+        if ("stomp-relay".equalsIgnoreCase(brokerMode)) {
+            config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setSystemHeartbeatSendInterval(25000)
+                    .setSystemHeartbeatReceiveInterval(25000);
+        } else {
+            config.enableSimpleBroker("/topic", "/queue")
+                    .setHeartbeatValue(new long[]{25000, 25000})
+                    .setTaskScheduler(heartbeatScheduler());
+        }
         config.setApplicationDestinationPrefixes("/app");
     }
 
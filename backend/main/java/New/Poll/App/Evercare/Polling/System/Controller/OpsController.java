@@ -0,0 +1,89 @@
+package New.Poll.App.Evercare.Polling.System.Controller;
+
+import New.Poll.App.Evercare.Polling.System.Service.AdmissionService;
+import New.Poll.App.Evercare.Polling.System.Service.PollDefinitionCache;
+import New.Poll.App.Evercare.Polling.System.Service.PollPayloadService;
+import New.Poll.App.Evercare.Polling.System.Service.QrCodeService;
+import New.Poll.App.Evercare.Polling.System.Service.RateLimitService;
+import New.Poll.App.Evercare.Polling.System.Service.ThreadDiagnosticsService;
+import New.Poll.App.Evercare.Polling.System.Service.VoteDedupService;
+import New.Poll.App.Evercare.Polling.System.Service.VoteEventRelay;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/ops")
+public class OpsController {
+
+    @Autowired
+    private PollDefinitionCache pollDefinitionCache;
+
+    @Autowired
+    private PollPayloadService pollPayloadService;
+
+    @Autowired
+    private QrCodeService qrCodeService;
+
+    @Autowired
+    private VoteDedupService voteDedupService;
+
+    @Autowired
+    private RateLimitService rateLimitService;
+
+    @Autowired
+    private AdmissionService admissionService;
+
+    @Autowired
+    private ThreadDiagnosticsService threadDiagnosticsService;
+
+    @Autowired
+    private VoteEventRelay voteEventRelay;
+
+    @GetMapping("/poll-cache")
+    public ResponseEntity<Map<String, Object>> getPollCacheStats() {
+        return ResponseEntity.ok(pollDefinitionCache.getStats());
+    }
+
+    @GetMapping("/poll-payloads")
+    public ResponseEntity<Map<String, Object>> getPollPayloadStats() {
+        return ResponseEntity.ok(pollPayloadService.getStats());
+    }
+
+    @GetMapping("/qr-codes")
+    public ResponseEntity<Map<String, Object>> getQrCodeStats() {
+        return ResponseEntity.ok(qrCodeService.getStats());
+    }
+
+    @GetMapping("/vote-dedup")
+    public ResponseEntity<Map<String, Object>> getVoteDedupStats() {
+        return ResponseEntity.ok(voteDedupService.getStats());
+    }
+
+    @GetMapping("/rate-limits")
+    public ResponseEntity<Map<String, Object>> getRateLimitStats() {
+        return ResponseEntity.ok(rateLimitService.getStats());
+    }
+
+    @GetMapping("/admission")
+    public ResponseEntity<Map<String, Object>> getAdmissionStats() {
+        return ResponseEntity.ok(admissionService.getStats());
+    }
+
+    @GetMapping("/threads")
+    public ResponseEntity<Map<String, Object>> getThreadStats() {
+        return ResponseEntity.ok(threadDiagnosticsService.getStats());
+    }
+
+    @GetMapping("/broker")
+    public ResponseEntity<Map<String, Object>> getBrokerStats() {
+        return ResponseEntity.ok(voteEventRelay.getStats());
+    }
+
+    @DeleteMapping("/poll-cache")
+    public ResponseEntity<Void> clearPollCache() {
+        pollDefinitionCache.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+}
\ No newline at end of file
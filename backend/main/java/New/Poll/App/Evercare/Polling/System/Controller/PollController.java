@@ -1,11 +1,24 @@
 package New.Poll.App.Evercare.Polling.System.Controller;
 
+import New.Poll.App.Evercare.Polling.System.Service.PollArchiveService;
+import New.Poll.App.Evercare.Polling.System.Service.PollExportService;
+import New.Poll.App.Evercare.Polling.System.Service.PollPayloadService;
 import New.Poll.App.Evercare.Polling.System.Service.PollService;
+import New.Poll.App.Evercare.Polling.System.Service.QrCodeService;
 import New.Poll.App.Evercare.Polling.System.DTO.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/polls")
@@ -14,6 +27,27 @@ public class PollController {
     @Autowired
     private PollService pollService;
 
+    @Autowired
+    private PollArchiveService pollArchiveService;
+
+    @Autowired
+    private PollExportService pollExportService;
+
+    @Autowired
+    private PollPayloadService pollPayloadService;
+
+    @Autowired
+    private QrCodeService qrCodeService;
+
+    @Value("${app.http.poll-s-maxage-seconds:5}")
+    private long pollSharedMaxAge;
+
+    @Value("${app.http.results-s-maxage-seconds:1}")
+    private long resultsSharedMaxAge;
+
+    @Value("${app.qr.max-age-days:365}")
+    private long qrMaxAgeDays;
+
     @PostMapping("/create")
     public ResponseEntity<PollResponse> createPoll(@RequestParam Long adminId,
                                                    @RequestBody CreatePollRequest request) {
@@ -21,15 +55,89 @@ public class PollController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/create/bulk")
+    public ResponseEntity<List<PollResponse>> createPolls(@RequestParam Long adminId,
+                                                          @RequestBody List<CreatePollRequest> requests) {
+        List<PollResponse> responses = pollService.createPolls(adminId, requests);
+        return ResponseEntity.status(HttpStatus.CREATED).body(responses);
+    }
+
     @GetMapping("/code/{pollCode}")
-    public ResponseEntity<PollResponse> getPollByCode(@PathVariable String pollCode) {
-        PollResponse response = pollService.getPollByCode(pollCode);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getPollByCode(@PathVariable String pollCode, WebRequest request) {
+        // Browsers revalidate every time (a 304 is cheap); a shared cache may hold it briefly.
+        // Nothing here depends on the voter: the voter cookie comes from POST /responses/voter-token
+        CacheControl cacheControl = CacheControl.maxAge(0, TimeUnit.SECONDS)
+                .sMaxAge(pollSharedMaxAge, TimeUnit.SECONDS).cachePublic();
+
+        // Pre-serialized PollResponse, written as-is
+        RenderedPayload payload = pollPayloadService.getPollPayload(pollCode);
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String eTag = gzip ? payload.getGzipETag() : payload.getETag();
+
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag)
+                    .cacheControl(cacheControl).varyBy(HttpHeaders.ACCEPT_ENCODING).build();
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING).contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.getGzip());
+        }
+        return response.body(payload.getJson());
+    }
+
+    // gzip, or * when gzip is not listed, with a non-zero q-value (RFC 9110 section 12.5.3)
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim();
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0.0;
+                    }
+                }
+            }
+            if (coding.equalsIgnoreCase("gzip") || coding.equalsIgnoreCase("x-gzip")) {
+                gzipQuality = quality;
+            } else if (coding.equals("*")) {
+                anyQuality = quality;
+            }
+        }
+        if (gzipQuality != null) {
+            return gzipQuality > 0;
+        }
+        return anyQuality != null && anyQuality > 0;
+    }
+
+    @GetMapping("/code/{pollCode}/qr")
+    public ResponseEntity<byte[]> getPollQrCode(@PathVariable String pollCode,
+                                                @RequestParam(defaultValue = "png") String format) {
+        // The share link behind a poll code never changes, so neither does its image
+        byte[] image = qrCodeService.getQrCode(pollCode, format.toLowerCase());
+        MediaType contentType = "svg".equalsIgnoreCase(format)
+                ? MediaType.valueOf("image/svg+xml") : MediaType.IMAGE_PNG;
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(qrMaxAgeDays, TimeUnit.DAYS).cachePublic().immutable())
+                .contentType(contentType)
+                .body(image);
     }
 
     @GetMapping("/admin/{adminId}")
-    public ResponseEntity<java.util.List<PollResponse>> getPollsByAdmin(@PathVariable Long adminId) {
-        java.util.List<PollResponse> polls = pollService.getPollsByAdmin(adminId);
+    public ResponseEntity<PollPageDto> getPollsByAdmin(@PathVariable Long adminId,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer size,
+                                                       @RequestParam(defaultValue = "full") String view) {
+        PollPageDto polls = pollService.getPollsByAdmin(adminId, cursor, size, "summary".equalsIgnoreCase(view));
         return ResponseEntity.ok(polls);
     }
 
@@ -52,9 +160,42 @@ public class PollController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/{pollId}/counters/reconcile")
+    public ResponseEntity<Void> reconcileResponseCounters(@PathVariable Long pollId) {
+        pollService.reconcileResponseCounters(pollId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/counters/reconcile")
+    public ResponseEntity<Void> reconcileAllResponseCounters() {
+        pollService.reconcileAllResponseCounters();
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/{pollId}/archive")
+    public ResponseEntity<Void> archivePoll(@PathVariable Long pollId) {
+        pollArchiveService.archivePoll(pollId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{pollId}/export")
+    public ResponseEntity<byte[]> exportPoll(@PathVariable Long pollId) {
+        byte[] csv = pollExportService.exportCsv(pollId);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"poll-" + pollId + ".csv\"")
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .body(csv);
+    }
+
     @GetMapping("/{pollCode}/results")
-    public ResponseEntity<PollResultsDto> getPollResults(@PathVariable String pollCode) {
+    public ResponseEntity<PollResultsDto> getPollResults(@PathVariable String pollCode, WebRequest request) {
+        CacheControl cacheControl = CacheControl.maxAge(0, TimeUnit.SECONDS)
+                .sMaxAge(resultsSharedMaxAge, TimeUnit.SECONDS).cachePublic();
+        String eTag = pollService.getResultsETag(pollCode);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
         PollResultsDto results = pollService.getPollResults(pollCode);
-        return ResponseEntity.ok(results);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl).body(results);
     }
 }
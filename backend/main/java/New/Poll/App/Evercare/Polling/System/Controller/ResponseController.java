@@ -1,10 +1,20 @@
 package New.Poll.App.Evercare.Polling.System.Controller;
+import New.Poll.App.Evercare.Polling.System.Service.AdmissionService;
 import New.Poll.App.Evercare.Polling.System.Service.ResponseService;
+import New.Poll.App.Evercare.Polling.System.Service.VoterIdentityService;
 import New.Poll.App.Evercare.Polling.System.DTO.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/responses")
@@ -13,15 +23,52 @@ public class ResponseController {
     @Autowired
     private ResponseService responseService;
 
+    @Autowired
+    private VoterIdentityService voterIdentityService;
+
+    @Autowired
+    private AdmissionService admissionService;
+
+    @Value("${app.http.results-s-maxage-seconds:1}")
+    private long resultsSharedMaxAge;
+
+    @Value("${app.voter.cookie-secure:false}")
+    private boolean voterCookieSecure;
+
+    @Value("${app.voter.cookie-max-age-days:365}")
+    private long voterCookieMaxAgeDays;
+
+    // Kept apart from the cacheable poll payload so a shared cache never replays someone's Set-Cookie
+    @PostMapping("/voter-token")
+    public ResponseEntity<Void> issueVoterToken(@CookieValue(name = VoterIdentityService.COOKIE_NAME, required = false) String voterToken) {
+        ResponseEntity.HeadersBuilder<?> response = ResponseEntity.noContent().cacheControl(CacheControl.noStore());
+        if (!voterIdentityService.isValidToken(voterToken)) {
+            String voterCookie = ResponseCookie.from(VoterIdentityService.COOKIE_NAME, voterIdentityService.issueToken())
+                    .path("/").httpOnly(true).secure(voterCookieSecure).sameSite("Lax")
+                    .maxAge(Duration.ofDays(voterCookieMaxAgeDays)).build().toString();
+            response.header(HttpHeaders.SET_COOKIE, voterCookie);
+        }
+        return response.build();
+    }
+
     @PostMapping("/submit")
-    public ResponseEntity<String> submitResponse(@RequestBody SubmitResponseRequest request) {
-        responseService.submitResponse(request);
+    public ResponseEntity<String> submitResponse(@RequestBody SubmitResponseRequest request,
+                                                 @CookieValue(name = VoterIdentityService.COOKIE_NAME, required = false) String voterToken) {
+        String voterFingerprint = voterIdentityService.fingerprint(request.getPollCode(), voterToken);
+        // Sheds load with 503 once the adaptive in-flight limit is reached
+        admissionService.execute(() -> responseService.submitResponse(request, voterFingerprint));
         return ResponseEntity.status(HttpStatus.CREATED).body("Response submitted successfully");
     }
 
     @GetMapping("/{pollCode}/results")
-    public ResponseEntity<PollResultsDto> getResults(@PathVariable String pollCode) {
+    public ResponseEntity<PollResultsDto> getResults(@PathVariable String pollCode, WebRequest request) {
+        CacheControl cacheControl = CacheControl.maxAge(0, TimeUnit.SECONDS)
+                .sMaxAge(resultsSharedMaxAge, TimeUnit.SECONDS).cachePublic();
+        String eTag = responseService.getResultsETag(pollCode);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(cacheControl).build();
+        }
         PollResultsDto results = responseService.getResults(pollCode);
-        return ResponseEntity.ok(results);
+        return ResponseEntity.ok().eTag(eTag).cacheControl(cacheControl).body(results);
     }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package New.Poll.App.Evercare.Polling.System.DTO;
+
+import java.util.List;
+
+/**
+ * A validated submission waiting in the ingestion queue to be written.
+ */
+public class PendingSubmission {
+    private final Long pollId;
+    private final String pollCode;
+    private final List<ResponseAnswer> answers;
+    private final String respondentName;
+    private final String respondentGender;
+    private final Integer respondentAge;
+    private final String voterFingerprint;
+
+    public PendingSubmission(Long pollId, String pollCode, List<ResponseAnswer> answers, String respondentName,
+                             String respondentGender, Integer respondentAge, String voterFingerprint) {
+        this.pollId = pollId;
+        this.pollCode = pollCode;
+        this.answers = answers;
+        this.respondentName = respondentName;
+        this.respondentGender = respondentGender;
+        this.respondentAge = respondentAge;
+        this.voterFingerprint = voterFingerprint;
+    }
+
+    public Long getPollId() { return pollId; }
+
+    public String getPollCode() { return pollCode; }
+
+    public List<ResponseAnswer> getAnswers() { return answers; }
+
+    public String getRespondentName() { return respondentName; }
+
+    public String getRespondentGender() { return respondentGender; }
+
+    public Integer getRespondentAge() { return respondentAge; }
+
+    public String getVoterFingerprint() { return voterFingerprint; }
+}
\ No newline at end of file
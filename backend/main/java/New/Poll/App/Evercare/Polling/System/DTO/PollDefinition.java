@@ -0,0 +1,162 @@
+package New.Poll.App.Evercare.Polling.System.DTO;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Immutable snapshot of everything about a poll that does not change with
+ * votes: header, status, chart type, required demographics and the ordered
+ * question/answer tree. Held by PollDefinitionCache and shared between
+ * threads, so nothing in it may be modified.
+ */
+public class PollDefinition {
+    private final Long id;
+    private final String pollCode;
+    private final String title;
+    private final String shareLink;
+    private final String qrCode;
+    private final Boolean allowViewResults;
+    private final Long adminId;
+    private final List<String> requiredDemographics;
+    private final PollStatusDto pollStatus;
+    private final ChartTypeDto chartType;
+    private final List<QuestionDefinition> questions;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime archivedAt;
+
+    public PollDefinition(Long id, String pollCode, String title, String shareLink, String qrCode,
+                          Boolean allowViewResults, Long adminId, List<String> requiredDemographics,
+                          PollStatusDto pollStatus, ChartTypeDto chartType, List<QuestionDefinition> questions,
+                          LocalDateTime updatedAt, LocalDateTime archivedAt) {
+        this.id = id;
+        this.pollCode = pollCode;
+        this.title = title;
+        this.shareLink = shareLink;
+        this.qrCode = qrCode;
+        this.allowViewResults = allowViewResults;
+        this.adminId = adminId;
+        this.requiredDemographics = requiredDemographics != null ? List.copyOf(requiredDemographics) : List.of();
+        this.pollStatus = pollStatus;
+        this.chartType = chartType;
+        this.questions = List.copyOf(questions);
+        this.updatedAt = updatedAt;
+        this.archivedAt = archivedAt;
+    }
+
+    public Long getId() { return id; }
+
+    public String getPollCode() { return pollCode; }
+
+    public String getTitle() { return title; }
+
+    public String getShareLink() { return shareLink; }
+
+    public String getQrCode() { return qrCode; }
+
+    public Boolean getAllowViewResults() { return allowViewResults; }
+
+    public Long getAdminId() { return adminId; }
+
+    public List<String> getRequiredDemographics() { return requiredDemographics; }
+
+    // Returned DTOs are copies, so callers cannot change the cached snapshot
+    public PollStatusDto getPollStatus() {
+        return new PollStatusDto(pollStatus.getId(), pollStatus.getName(), pollStatus.getDescription());
+    }
+
+    public ChartTypeDto getChartType() {
+        return new ChartTypeDto(chartType.getId(), chartType.getName(), chartType.getDescription());
+    }
+
+    public List<QuestionDefinition> getQuestions() { return questions; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+
+    // Changes whenever the poll row is updated (status, archival)
+    public long getVersion() {
+        return updatedAt != null ? updatedAt.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+    }
+
+    public QuestionDefinition findQuestion(Long questionId) {
+        for (QuestionDefinition question : questions) {
+            if (question.getId().equals(questionId)) {
+                return question;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Rough heap footprint in bytes, used to bound the cache by size rather
+     * than by entry count.
+     */
+    public long estimateWeight() {
+        long weight = 256 + sizeOf(title) + sizeOf(pollCode) + sizeOf(shareLink) + sizeOf(qrCode);
+        for (String demographic : requiredDemographics) {
+            weight += 16 + sizeOf(demographic);
+        }
+        for (QuestionDefinition question : questions) {
+            weight += 64 + sizeOf(question.getText());
+            for (AnswerDefinition answer : question.getAnswers()) {
+                weight += 48 + sizeOf(answer.getText());
+            }
+        }
+        return weight;
+    }
+
+    private static long sizeOf(String value) {
+        return value != null ? 40 + value.length() : 0;
+    }
+
+    public static class QuestionDefinition {
+        private final Long id;
+        private final String text;
+        private final Integer questionOrder;
+        private final List<AnswerDefinition> answers;
+
+        public QuestionDefinition(Long id, String text, Integer questionOrder, List<AnswerDefinition> answers) {
+            this.id = id;
+            this.text = text;
+            this.questionOrder = questionOrder;
+            this.answers = List.copyOf(answers);
+        }
+
+        public Long getId() { return id; }
+
+        public String getText() { return text; }
+
+        public Integer getQuestionOrder() { return questionOrder; }
+
+        public List<AnswerDefinition> getAnswers() { return answers; }
+
+        public boolean hasAnswer(Long answerId) {
+            for (AnswerDefinition answer : answers) {
+                if (answer.getId().equals(answerId)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    public static class AnswerDefinition {
+        private final Long id;
+        private final String text;
+        private final Integer answerOrder;
+
+        public AnswerDefinition(Long id, String text, Integer answerOrder) {
+            this.id = id;
+            this.text = text;
+            this.answerOrder = answerOrder;
+        }
+
+        public Long getId() { return id; }
+
+        public String getText() { return text; }
+
+        public Integer getAnswerOrder() { return answerOrder; }
+    }
+}
\ No newline at end of file
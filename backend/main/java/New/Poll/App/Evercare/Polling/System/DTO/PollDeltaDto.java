@@ -0,0 +1,41 @@
+package New.Poll.App.Evercare.Polling.System.DTO;
+
+import java.util.Map;
+
+/**
+ * Changed answer counts since the previous broadcast. Clients apply a delta
+ * when its baseSequence is not ahead of their own sequence, and otherwise
+ * re-fetch the full results (which carry the current sequence).
+ */
+public class PollDeltaDto {
+    private Long pollId;
+    private Long baseSequence;
+    private Long sequence;
+    private Long totalResponses;
+    private Map<Long, Long> answerCounts;
+
+    public PollDeltaDto() {}
+
+    public PollDeltaDto(Long pollId, Long baseSequence, Long sequence, Long totalResponses, Map<Long, Long> answerCounts) {
+        this.pollId = pollId;
+        this.baseSequence = baseSequence;
+        this.sequence = sequence;
+        this.totalResponses = totalResponses;
+        this.answerCounts = answerCounts;
+    }
+
+    public Long getPollId() { return pollId; }
+    public void setPollId(Long pollId) { this.pollId = pollId; }
+
+    public Long getBaseSequence() { return baseSequence; }
+    public void setBaseSequence(Long baseSequence) { this.baseSequence = baseSequence; }
+
+    public Long getSequence() { return sequence; }
+    public void setSequence(Long sequence) { this.sequence = sequence; }
+
+    public Long getTotalResponses() { return totalResponses; }
+    public void setTotalResponses(Long totalResponses) { this.totalResponses = totalResponses; }
+
+    public Map<Long, Long> getAnswerCounts() { return answerCounts; }
+    public void setAnswerCounts(Map<Long, Long> answerCounts) { this.answerCounts = answerCounts; }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+package New.Poll.App.Evercare.Polling.System.DTO;
+
+import java.util.List;
+
+public class PollPageDto {
+    private List<PollResponse> items;
+    private String nextCursor;
+    private Boolean hasMore;
+
+    public PollPageDto() {}
+
+    public PollPageDto(List<PollResponse> items, String nextCursor, Boolean hasMore) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    public List<PollResponse> getItems() { return items; }
+    public void setItems(List<PollResponse> items) { this.items = items; }
+
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+
+    public Boolean getHasMore() { return hasMore; }
+    public void setHasMore(Boolean hasMore) { this.hasMore = hasMore; }
+}
\ No newline at end of file
@@ -8,6 +8,7 @@ public class PollResultsDto {
     private String chartType;
     private Long totalResponses;
     private List<QuestionResultDto> questionResults;
+    private Long sequence;
 
     public PollResultsDto() {}
 
@@ -33,4 +34,7 @@ public class PollResultsDto {
 
     public List<QuestionResultDto> getQuestionResults() { return questionResults; }
     public void setQuestionResults(List<QuestionResultDto> questionResults) { this.questionResults = questionResults; }
+
+    public Long getSequence() { return sequence; }
+    public void setSequence(Long sequence) { this.sequence = sequence; }
 }
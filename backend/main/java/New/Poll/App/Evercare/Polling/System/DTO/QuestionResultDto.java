@@ -6,6 +6,7 @@ public class QuestionResultDto {
     private Long questionId;
     private String questionText;
     private List<AnswerResultDto> answerResults;
+    private Long totalResponses;
 
     public QuestionResultDto() {}
 
@@ -23,4 +24,7 @@ public class QuestionResultDto {
 
     public List<AnswerResultDto> getAnswerResults() { return answerResults; }
     public void setAnswerResults(List<AnswerResultDto> answerResults) { this.answerResults = answerResults; }
+
+    public Long getTotalResponses() { return totalResponses; }
+    public void setTotalResponses(Long totalResponses) { this.totalResponses = totalResponses; }
 }
\ No newline at end of file
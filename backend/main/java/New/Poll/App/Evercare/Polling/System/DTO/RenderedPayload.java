@@ -0,0 +1,28 @@
+package New.Poll.App.Evercare.Polling.System.DTO;
+
+/**
+ * A response body serialized once and reused for every request until its
+ * ETag changes, both as plain JSON and gzip-compressed.
+ */
+public class RenderedPayload {
+    private final String eTag;
+    private final byte[] json;
+    private final byte[] gzip;
+
+    public RenderedPayload(String eTag, byte[] json, byte[] gzip) {
+        this.eTag = eTag;
+        this.json = json;
+        this.gzip = gzip;
+    }
+
+    public String getETag() { return eTag; }
+
+    // Strong ETags are per representation, so the compressed variant gets its own
+    public String getGzipETag() {
+        return eTag.substring(0, eTag.length() - 1) + "-gz\"";
+    }
+
+    public byte[] getJson() { return json; }
+
+    public byte[] getGzip() { return gzip; }
+}
\ No newline at end of file
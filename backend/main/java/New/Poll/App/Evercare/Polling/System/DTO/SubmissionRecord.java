@@ -0,0 +1,39 @@
+package New.Poll.App.Evercare.Polling.System.DTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A stored submission with its answers, as read from the database or from a
+ * poll's archive file.
+ */
+public class SubmissionRecord {
+    private final Long id;
+    private final LocalDateTime createdAt;
+    private final String respondentName;
+    private final String respondentGender;
+    private final Integer respondentAge;
+    private final List<ResponseAnswer> answers;
+
+    public SubmissionRecord(Long id, LocalDateTime createdAt, String respondentName, String respondentGender,
+                            Integer respondentAge, List<ResponseAnswer> answers) {
+        this.id = id;
+        this.createdAt = createdAt;
+        this.respondentName = respondentName;
+        this.respondentGender = respondentGender;
+        this.respondentAge = respondentAge;
+        this.answers = answers;
+    }
+
+    public Long getId() { return id; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public String getRespondentName() { return respondentName; }
+
+    public String getRespondentGender() { return respondentGender; }
+
+    public Integer getRespondentAge() { return respondentAge; }
+
+    public List<ResponseAnswer> getAnswers() { return answers; }
+}
\ No newline at end of file
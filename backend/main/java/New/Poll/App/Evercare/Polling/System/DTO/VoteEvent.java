@@ -0,0 +1,30 @@
+package New.Poll.App.Evercare.Polling.System.DTO;
+
+import java.util.List;
+
+/**
+ * One committed submission as seen by the live tallies: the poll, the chosen
+ * answer ids and the poll's response_count once the vote was written, which
+ * tells a tally whether its seed already holds the vote.
+ */
+public class VoteEvent {
+    private final Long pollId;
+    private final String pollCode;
+    private final List<Long> answerIds;
+    private final long sequence;
+
+    public VoteEvent(Long pollId, String pollCode, List<Long> answerIds, long sequence) {
+        this.pollId = pollId;
+        this.pollCode = pollCode;
+        this.answerIds = answerIds;
+        this.sequence = sequence;
+    }
+
+    public Long getPollId() { return pollId; }
+
+    public String getPollCode() { return pollCode; }
+
+    public List<Long> getAnswerIds() { return answerIds; }
+
+    public long getSequence() { return sequence; }
+}
\ No newline at end of file
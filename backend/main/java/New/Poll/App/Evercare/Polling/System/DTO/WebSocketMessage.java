@@ -4,6 +4,7 @@ public class WebSocketMessage {
     private String type;
     private String pollCode;
     private PollResultsDto data;
+    private PollDeltaDto delta;
 
     public WebSocketMessage() {}
 
@@ -13,6 +14,12 @@ public class WebSocketMessage {
         this.data = data;
     }
 
+    public WebSocketMessage(String type, String pollCode, PollDeltaDto delta) {
+        this.type = type;
+        this.pollCode = pollCode;
+        this.delta = delta;
+    }
+
     public String getType() { return type; }
     public void setType(String type) { this.type = type; }
 
@@ -21,4 +28,7 @@ public class WebSocketMessage {
 
     public PollResultsDto getData() { return data; }
     public void setData(PollResultsDto data) { this.data = data; }
+
+    public PollDeltaDto getDelta() { return delta; }
+    public void setDelta(PollDeltaDto delta) { this.delta = delta; }
 }
@@ -0,0 +1,11 @@
+package New.Poll.App.Evercare.Polling.System.Exception;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+
+    public ConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
\ No newline at end of file
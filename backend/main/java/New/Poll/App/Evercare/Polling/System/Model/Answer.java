@@ -6,10 +6,13 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
-@Table(name = "answers")
+@Table(name = "answers", indexes = {
+        @Index(name = "idx_answers_question_order", columnList = "question_id, answer_order")
+})
 public class Answer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answer_seq")
+    @SequenceGenerator(name = "answer_seq", sequenceName = "answers_seq", allocationSize = 50)
     private Long id;
 
     private String text;
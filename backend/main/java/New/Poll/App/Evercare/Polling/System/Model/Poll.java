@@ -7,7 +7,9 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
-@Table(name = "polls")
+@Table(name = "polls", indexes = {
+        @Index(name = "idx_polls_admin_created", columnList = "admin_id, created_at DESC, id DESC")
+})
 public class Poll {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -17,7 +19,7 @@ public class Poll {
     private String title;
 
     @Column(unique = true, nullable = false)
-    private String pollCode; // e.g., poll13859
+    private String pollCode; // e.g., 3kTMd9bQx2A, see PollCodeGenerator
 
     @Column(nullable = false)
     private String shareLink;
@@ -25,11 +27,11 @@ public class Poll {
     @Column(nullable = false)
     private String qrCode;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "poll_status_id", nullable = false)
     private PollStatus pollStatus;
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "chart_type_id", nullable = false)
     private ChartType chartType;
 
@@ -40,16 +42,29 @@ public class Poll {
     private Long adminId;
 
     @ElementCollection
-    @CollectionTable(name = "poll_required_demographics", joinColumns = @JoinColumn(name = "poll_id"))
+    @CollectionTable(name = "poll_required_demographics", joinColumns = @JoinColumn(name = "poll_id"),
+            indexes = @Index(name = "idx_poll_required_demographics_poll", columnList = "poll_id"))
     @Column(name = "demographic")
     private List<String> requiredDemographics = new ArrayList<>();
 
-    @OneToMany(mappedBy = "poll", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "poll", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @OrderBy("questionOrder ASC")
     private List<Question> questions = new ArrayList<>();
 
-    @OneToMany(mappedBy = "poll", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    // No cascade: responses are removed in bulk by ResponseRepository.deleteByPollId
+    @OneToMany(mappedBy = "poll", fetch = FetchType.LAZY)
     private List<Response> responses = new ArrayList<>();
 
+    // Maintained by PollRepository.incrementResponseCounters, never written through the entity
+    @Column(nullable = false, updatable = false)
+    private Long responseCount = 0L;
+
+    @Column(nullable = false, updatable = false)
+    private Long respondentCount = 0L;
+
+    // Set once the poll's responses have been moved to the archive store
+    private LocalDateTime archivedAt;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -178,6 +193,30 @@ public class Poll {
         this.responses = responses;
     }
 
+    public Long getResponseCount() {
+        return responseCount;
+    }
+
+    public void setResponseCount(Long responseCount) {
+        this.responseCount = responseCount;
+    }
+
+    public Long getRespondentCount() {
+        return respondentCount;
+    }
+
+    public void setRespondentCount(Long respondentCount) {
+        this.respondentCount = respondentCount;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -3,16 +3,26 @@ import jakarta.persistence.*;
 
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Objects;
 
 @Entity
-@Table(name = "responses")
+@Table(name = "responses", indexes = {
+        @Index(name = "idx_responses_poll_question_answer", columnList = "poll_id, question_id, answer_id"),
+        @Index(name = "idx_responses_answer", columnList = "answer_id"),
+        @Index(name = "idx_responses_poll_created", columnList = "poll_id, created_at DESC"),
+        @Index(name = "idx_responses_submission", columnList = "submission_id")
+})
 public class Response {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "response_seq")
+    @SequenceGenerator(name = "response_seq", sequenceName = "responses_seq", allocationSize = 50)
     private Long id;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "submission_id", nullable = false)
+    private Submission submission;
+
+    // Denormalised from the submission so results can be grouped without a join
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "poll_id", nullable = false)
     private Poll poll;
@@ -25,22 +35,15 @@ public class Response {
     @JoinColumn(name = "answer_id", nullable = false)
     private Answer answer;
 
-    private String respondentName;
-    private String respondentGender;
-    private Integer respondentAge;
-
     private LocalDateTime createdAt;
 
     public Response() {}
 
-    public Response(Poll poll, Question question, Answer answer, String respondentName,
-                    String respondentGender, Integer respondentAge) {
+    public Response(Submission submission, Poll poll, Question question, Answer answer) {
+        this.submission = submission;
         this.poll = poll;
         this.question = question;
         this.answer = answer;
-        this.respondentName = respondentName;
-        this.respondentGender = respondentGender;
-        this.respondentAge = respondentAge;
     }
 
     @PrePersist
@@ -56,6 +59,14 @@ public class Response {
         this.id = id;
     }
 
+    public Submission getSubmission() {
+        return submission;
+    }
+
+    public void setSubmission(Submission submission) {
+        this.submission = submission;
+    }
+
     public Poll getPoll() {
         return poll;
     }
@@ -80,30 +91,6 @@ public class Response {
         this.answer = answer;
     }
 
-    public String getRespondentName() {
-        return respondentName;
-    }
-
-    public void setRespondentName(String respondentName) {
-        this.respondentName = respondentName;
-    }
-
-    public String getRespondentGender() {
-        return respondentGender;
-    }
-
-    public void setRespondentGender(String respondentGender) {
-        this.respondentGender = respondentGender;
-    }
-
-    public Integer getRespondentAge() {
-        return respondentAge;
-    }
-
-    public void setRespondentAge(Integer respondentAge) {
-        this.respondentAge = respondentAge;
-    }
-
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -131,12 +118,10 @@ public class Response {
 
     public static class ResponseBuilder {
         private Long id;
+        private Submission submission;
         private Poll poll;
         private Question question;
         private Answer answer;
-        private String respondentName;
-        private String respondentGender;
-        private Integer respondentAge;
         private LocalDateTime createdAt;
 
         public ResponseBuilder id(Long id) {
@@ -144,6 +129,11 @@ public class Response {
             return this;
         }
 
+        public ResponseBuilder submission(Submission submission) {
+            this.submission = submission;
+            return this;
+        }
+
         public ResponseBuilder poll(Poll poll) {
             this.poll = poll;
             return this;
@@ -159,29 +149,13 @@ public class Response {
             return this;
         }
 
-        public ResponseBuilder respondentName(String respondentName) {
-            this.respondentName = respondentName;
-            return this;
-        }
-
-        public ResponseBuilder respondentGender(String respondentGender) {
-            this.respondentGender = respondentGender;
-            return this;
-        }
-
-        public ResponseBuilder respondentAge(Integer respondentAge) {
-            this.respondentAge = respondentAge;
-            return this;
-        }
-
         public ResponseBuilder createdAt(LocalDateTime createdAt) {
             this.createdAt = createdAt;
             return this;
         }
 
         public Response build() {
-            Response response = new Response(poll, question, answer, respondentName,
-                    respondentGender, respondentAge);
+            Response response = new Response(submission, poll, question, answer);
             response.id = this.id;
             response.createdAt = this.createdAt;
             return response;
@@ -0,0 +1,195 @@
+package New.Poll.App.Evercare.Polling.System.Model;
+import jakarta.persistence.*;
+
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One respondent's submission to a poll. Demographics are stored here once;
+ * the chosen answers are the child {@link Response} rows.
+ */
+@Entity
+@Table(name = "submissions", indexes = {
+        @Index(name = "idx_submissions_poll", columnList = "poll_id"),
+        @Index(name = Submission.VOTER_UNIQUE_INDEX, columnList = "poll_id, voter_fingerprint", unique = true)
+})
+public class Submission {
+    public static final String VOTER_UNIQUE_INDEX = "uk_submissions_poll_voter";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "submission_seq")
+    @SequenceGenerator(name = "submission_seq", sequenceName = "submissions_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "poll_id", nullable = false)
+    private Poll poll;
+
+    private String respondentName;
+    private String respondentGender;
+    private Integer respondentAge;
+
+    // See VoterIdentityService; null for submissions made before voters were tracked
+    @Column(length = 32)
+    private String voterFingerprint;
+
+    @OneToMany(mappedBy = "submission", cascade = CascadeType.ALL)
+    private List<Response> responses = new ArrayList<>();
+
+    private LocalDateTime createdAt;
+
+    public Submission() {}
+
+    public Submission(Poll poll, String respondentName, String respondentGender, Integer respondentAge) {
+        this.poll = poll;
+        this.respondentName = respondentName;
+        this.respondentGender = respondentGender;
+        this.respondentAge = respondentAge;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public void addResponse(Question question, Answer answer) {
+        responses.add(new Response(this, poll, question, answer));
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Poll getPoll() {
+        return poll;
+    }
+
+    public void setPoll(Poll poll) {
+        this.poll = poll;
+    }
+
+    public String getRespondentName() {
+        return respondentName;
+    }
+
+    public void setRespondentName(String respondentName) {
+        this.respondentName = respondentName;
+    }
+
+    public String getRespondentGender() {
+        return respondentGender;
+    }
+
+    public void setRespondentGender(String respondentGender) {
+        this.respondentGender = respondentGender;
+    }
+
+    public Integer getRespondentAge() {
+        return respondentAge;
+    }
+
+    public void setRespondentAge(Integer respondentAge) {
+        this.respondentAge = respondentAge;
+    }
+
+    public String getVoterFingerprint() {
+        return voterFingerprint;
+    }
+
+    public void setVoterFingerprint(String voterFingerprint) {
+        this.voterFingerprint = voterFingerprint;
+    }
+
+    public List<Response> getResponses() {
+        return responses;
+    }
+
+    public void setResponses(List<Response> responses) {
+        this.responses = responses;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Submission submission = (Submission) o;
+        return Objects.equals(id, submission.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    public static SubmissionBuilder builder() {
+        return new SubmissionBuilder();
+    }
+
+    public static class SubmissionBuilder {
+        private Long id;
+        private Poll poll;
+        private String respondentName;
+        private String respondentGender;
+        private Integer respondentAge;
+        private String voterFingerprint;
+        private LocalDateTime createdAt;
+
+        public SubmissionBuilder id(Long id) {
+            this.id = id;
+            return this;
+        }
+
+        public SubmissionBuilder poll(Poll poll) {
+            this.poll = poll;
+            return this;
+        }
+
+        public SubmissionBuilder respondentName(String respondentName) {
+            this.respondentName = respondentName;
+            return this;
+        }
+
+        public SubmissionBuilder respondentGender(String respondentGender) {
+            this.respondentGender = respondentGender;
+            return this;
+        }
+
+        public SubmissionBuilder respondentAge(Integer respondentAge) {
+            this.respondentAge = respondentAge;
+            return this;
+        }
+
+        public SubmissionBuilder voterFingerprint(String voterFingerprint) {
+            this.voterFingerprint = voterFingerprint;
+            return this;
+        }
+
+        public SubmissionBuilder createdAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public Submission build() {
+            Submission submission = new Submission(poll, respondentName, respondentGender, respondentAge);
+            submission.id = this.id;
+            submission.voterFingerprint = this.voterFingerprint;
+            submission.createdAt = this.createdAt;
+            return submission;
+        }
+    }
+}
\ No newline at end of file
@@ -22,4 +22,41 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
     @Modifying
     @Query("UPDATE Answer a SET a.responseCount = a.responseCount + 1 WHERE a.id = :answerId")
     void incrementResponseCount(@Param("answerId") Long answerId);
+
+    /**
+     * Adds a batch of votes to an answer in one statement.
+     */
+    @Modifying
+    @Query("UPDATE Answer a SET a.responseCount = a.responseCount + :count WHERE a.id = :answerId")
+    void incrementResponseCountBy(@Param("answerId") Long answerId, @Param("count") Long count);
+
+    /**
+     * Stored per-answer counts for a poll, used to seed the in-memory tally:
+     * answer id, answer count, poll response_count, poll respondent_count. One
+     * statement, so the counts and the poll counters come from one snapshot. A
+     * poll without answers still returns a row, with a null answer id.
+     */
+    @Query(value = "SELECT a.id, a.response_count AS answer_count, p.response_count, p.respondent_count " +
+            "FROM polls p LEFT JOIN questions q ON q.poll_id = p.id LEFT JOIN answers a ON a.question_id = q.id " +
+            "WHERE p.id = ?1", nativeQuery = true)
+    List<Object[]> findResponseCountsByPollId(Long pollId);
+
+    /**
+     * Rebuilds the stored per-answer counts of a poll from the responses table.
+     * The poll_id filter confines the subquery to the poll's partition.
+     */
+    @Modifying
+    @Query(value = "UPDATE answers a SET response_count = " +
+            "(SELECT COUNT(*) FROM responses r WHERE r.poll_id = :pollId AND r.answer_id = a.id) " +
+            "FROM questions q JOIN polls p ON p.id = q.poll_id " +
+            "WHERE a.question_id = q.id AND q.poll_id = :pollId AND p.archived_at IS NULL", nativeQuery = true)
+    int reconcileResponseCountsByPollId(@Param("pollId") Long pollId);
+
+    @Modifying
+    @Query(value = "UPDATE answers a SET response_count = COALESCE(c.n, 0) " +
+            "FROM answers x JOIN questions q ON q.id = x.question_id " +
+            "JOIN polls p ON p.id = q.poll_id AND p.archived_at IS NULL " +
+            "LEFT JOIN (SELECT answer_id, COUNT(*) AS n FROM responses GROUP BY answer_id) c " +
+            "ON c.answer_id = x.id WHERE a.id = x.id", nativeQuery = true)
+    int reconcileAllResponseCounts();
 }
\ No newline at end of file
@@ -1,21 +1,111 @@
 package New.Poll.App.Evercare.Polling.System.Repository;
 
 import New.Poll.App.Evercare.Polling.System.Model.*;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PollRepository extends JpaRepository<Poll, Long> {
     Optional<Poll> findByPollCode(String pollCode);
+
+    // SELECT ... FOR UPDATE: votes for the poll wait until the holder commits
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Poll p WHERE p.id = ?1")
+    Optional<Poll> findByIdForUpdate(Long pollId);
+
+    // Poll with status, chart type and questions; answers are loaded by QuestionRepository.findWithAnswersByPollId
+    @EntityGraph(attributePaths = {"pollStatus", "chartType", "questions"})
+    Optional<Poll> findTreeByPollCode(String pollCode);
+
     List<Poll> findByAdminId(Long adminId);
+
+    @EntityGraph(attributePaths = {"pollStatus", "chartType"})
     List<Poll> findByAdminIdOrderByCreatedAtDesc(Long adminId);
 
+    // Keyset pagination over (createdAt DESC, id DESC), backed by idx_polls_admin_created
+    @EntityGraph(attributePaths = {"pollStatus", "chartType"})
+    @Query("SELECT p FROM Poll p WHERE p.adminId = ?1 ORDER BY p.createdAt DESC, p.id DESC")
+    List<Poll> findPageByAdminId(Long adminId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"pollStatus", "chartType"})
+    @Query("SELECT p FROM Poll p WHERE p.adminId = ?1 " +
+            "AND (p.createdAt < ?2 OR (p.createdAt = ?2 AND p.id < ?3)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Poll> findPageByAdminIdAfter(Long adminId, LocalDateTime createdAt, Long id, Pageable pageable);
+
     @Query("SELECT COUNT(p) FROM Poll p WHERE p.adminId = ?1")
     Long countByAdminId(Long adminId);
 
     @Query("SELECT COUNT(p) FROM Poll p WHERE p.adminId = ?1 AND p.pollStatus.id = ?2")
     Long countByAdminIdAndPollStatusId(Long adminId, Long pollStatusId);
+
+    @Query("SELECT COUNT(p) AS totalPolls, " +
+            "COALESCE(SUM(CASE WHEN s.name = 'ACTIVE' THEN 1 ELSE 0 END), 0) AS activePolls " +
+            "FROM Poll p JOIN p.pollStatus s WHERE p.adminId = ?1")
+    DashboardCounts countDashboardByAdminId(Long adminId);
+
+    @EntityGraph(attributePaths = {"pollStatus", "chartType"})
+    List<Poll> findTop5ByAdminIdOrderByCreatedAtDesc(Long adminId);
+
+    /**
+     * Adds committed votes to the stored counters in one statement and returns
+     * the new response_count. Updates to the row are serialized by its lock, so
+     * the value places these votes against a tally seeded from the counters.
+     *
+     * Returns null, and updates nothing, once the poll is completed or
+     * archived. The check runs under the row lock, after any archive run
+     * holding the poll (findByIdForUpdate) has committed.
+     */
+    @Query(value = "UPDATE polls SET response_count = response_count + :responses, " +
+            "respondent_count = respondent_count + :respondents " +
+            "WHERE id = :pollId AND archived_at IS NULL " +
+            "AND poll_status_id NOT IN (SELECT id FROM poll_statuses WHERE name = 'COMPLETED') " +
+            "RETURNING response_count",
+            nativeQuery = true)
+    Long incrementResponseCounters(@Param("pollId") Long pollId, @Param("responses") Long responses,
+                                   @Param("respondents") Long respondents);
+
+    @Query("SELECT p.id FROM Poll p WHERE p.pollStatus.name = 'COMPLETED' AND p.archivedAt IS NULL AND p.updatedAt < ?1")
+    List<Long> findArchivableIds(LocalDateTime completedBefore);
+
+    @Query("SELECT p.respondentCount FROM Poll p WHERE p.id = ?1")
+    Long findRespondentCountById(Long pollId);
+
+    @Query("SELECT p.responseCount FROM Poll p WHERE p.id = ?1")
+    Long findResponseCountById(Long pollId);
+
+    /**
+     * Rebuilds the stored counters from the responses and submissions tables.
+     * Archived polls keep their final counters, their rows are no longer there.
+     */
+    @Modifying
+    @Query(value = "UPDATE polls SET " +
+            "response_count = (SELECT COUNT(*) FROM responses WHERE poll_id = :pollId), " +
+            "respondent_count = (SELECT COUNT(*) FROM submissions WHERE poll_id = :pollId) " +
+            "WHERE id = :pollId AND archived_at IS NULL", nativeQuery = true)
+    int reconcileResponseCounters(@Param("pollId") Long pollId);
+
+    @Modifying
+    @Query(value = "UPDATE polls p SET response_count = COALESCE(r.n, 0), " +
+            "respondent_count = COALESCE(s.n, 0) " +
+            "FROM polls x " +
+            "LEFT JOIN (SELECT poll_id, COUNT(*) AS n FROM responses GROUP BY poll_id) r ON r.poll_id = x.id " +
+            "LEFT JOIN (SELECT poll_id, COUNT(*) AS n FROM submissions GROUP BY poll_id) s ON s.poll_id = x.id " +
+            "WHERE p.id = x.id AND x.archived_at IS NULL", nativeQuery = true)
+    int reconcileAllResponseCounters();
+
+    interface DashboardCounts {
+        Long getTotalPolls();
+        Long getActivePolls();
+    }
 }
\ No newline at end of file
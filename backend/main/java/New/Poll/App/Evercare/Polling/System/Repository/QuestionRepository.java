@@ -11,6 +11,17 @@ import java.util.List;
 public interface QuestionRepository extends JpaRepository<Question, Long> {
     List<Question> findByPollIdOrderByQuestionOrder(Long pollId);
 
+    /**
+     * Initialises the answers of every question of a poll in one query.
+     * Poll.questions and Question.answers are both bags, so they cannot be
+     * join-fetched together with the poll.
+     */
+    @Query("SELECT DISTINCT q FROM Question q LEFT JOIN FETCH q.answers WHERE q.poll.id = ?1")
+    List<Question> findWithAnswersByPollId(Long pollId);
+
     @Query("SELECT COUNT(q) FROM Question q WHERE q.poll.id = ?1")
     Long countByPollId(Long pollId);
+
+    @Query("SELECT COUNT(q) FROM Question q WHERE q.poll.adminId = ?1")
+    Long countByAdminId(Long adminId);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package New.Poll.App.Evercare.Polling.System.Repository;
 
 import New.Poll.App.Evercare.Polling.System.Model.Response;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -17,7 +18,32 @@ public interface ResponseRepository extends JpaRepository<Response, Long> {
     @Query("SELECT COUNT(r) FROM Response r WHERE r.answer.id = ?1")
     Long countByAnswerId(Long answerId);
 
-    void deleteByPollId(Long pollId);
+    /**
+     * All answer counts of a poll in one round-trip. Per-question totals are
+     * the sums of each question's rows.
+     */
+    @Query("SELECT r.question.id AS questionId, r.answer.id AS answerId, COUNT(r) AS count " +
+            "FROM Response r WHERE r.poll.id = ?1 GROUP BY r.question.id, r.answer.id")
+    List<AnswerCount> countByQuestionAndAnswerForPoll(Long pollId);
+
+    /**
+     * One set-based DELETE, confined to the poll's partition, instead of
+     * loading and removing every response entity.
+     */
+    @Modifying
+    @Query("DELETE FROM Response r WHERE r.poll.id = ?1")
+    int deleteByPollId(Long pollId);
 
     List<Response> findByPollIdOrderByCreatedAtDesc(Long pollId);
+
+    // One row per answer: submission id, created at, name, gender, age, question id, answer id
+    @Query("SELECT s.id, s.createdAt, s.respondentName, s.respondentGender, s.respondentAge, r.question.id, r.answer.id " +
+            "FROM Response r JOIN r.submission s WHERE r.poll.id = ?1 ORDER BY s.id, r.question.id")
+    List<Object[]> findSubmissionRowsByPollId(Long pollId);
+
+    interface AnswerCount {
+        Long getQuestionId();
+        Long getAnswerId();
+        Long getCount();
+    }
 }
@@ -0,0 +1,27 @@
+package New.Poll.App.Evercare.Polling.System.Repository;
+
+import New.Poll.App.Evercare.Polling.System.Model.Submission;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SubmissionRepository extends JpaRepository<Submission, Long> {
+
+    @Query("SELECT COUNT(s) FROM Submission s WHERE s.poll.id = ?1")
+    Long countByPollId(Long pollId);
+
+    @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM Submission s WHERE s.poll.id = ?1 AND s.voterFingerprint = ?2")
+    boolean existsByPollIdAndVoterFingerprint(Long pollId, String voterFingerprint);
+
+    // Answered from uk_submissions_poll_voter alone
+    @Query("SELECT s.voterFingerprint FROM Submission s WHERE s.poll.id = ?1 AND s.voterFingerprint IS NOT NULL")
+    List<String> findVoterFingerprintsByPollId(Long pollId);
+
+    @Modifying
+    @Query("DELETE FROM Submission s WHERE s.poll.id = ?1")
+    int deleteByPollId(Long pollId);
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package New.Poll.App.Evercare.Polling.System.Service;
+
+import java.util.Map;
+
+public interface AdmissionService {
+    void execute(Runnable task);
+    Map<String, Object> getStats();
+}
\ No newline at end of file
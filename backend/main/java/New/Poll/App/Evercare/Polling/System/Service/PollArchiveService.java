@@ -0,0 +1,12 @@
+package New.Poll.App.Evercare.Polling.System.Service;
+
+import New.Poll.App.Evercare.Polling.System.DTO.SubmissionRecord;
+
+import java.util.List;
+
+public interface PollArchiveService {
+    void archiveCompletedPolls();
+    void archivePoll(Long pollId);
+    List<SubmissionRecord> readSubmissions(Long pollId);
+    void deleteArchive(Long pollId);
+}
\ No newline at end of file
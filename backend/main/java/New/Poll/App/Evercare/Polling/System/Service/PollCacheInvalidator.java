@@ -0,0 +1,8 @@
+package New.Poll.App.Evercare.Polling.System.Service;
+
+public interface PollCacheInvalidator {
+    void definitionChanged(String pollCode);
+    void pollDeleted(Long pollId, String pollCode);
+    void countersReconciled(Long pollId);
+    void applyRemote(String payload);
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package New.Poll.App.Evercare.Polling.System.Service;
+
+/**
+ * Produces unique poll codes without asking the database. Implementations are
+ * selected with app.poll-code.generator.
+ */
+public interface PollCodeGenerator {
+    String nextCode();
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package New.Poll.App.Evercare.Polling.System.Service;
+
+import New.Poll.App.Evercare.Polling.System.DTO.PollDefinition;
+
+import java.util.Map;
+
+public interface PollDefinitionCache {
+    PollDefinition get(String pollCode);
+    void invalidate(String pollCode);
+    void invalidateAll();
+    Map<String, Object> getStats();
+}
\ No newline at end of file
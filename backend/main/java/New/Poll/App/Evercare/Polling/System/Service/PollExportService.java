@@ -0,0 +1,5 @@
+package New.Poll.App.Evercare.Polling.System.Service;
+
+public interface PollExportService {
+    byte[] exportCsv(Long pollId);
+}
\ No newline at end of file
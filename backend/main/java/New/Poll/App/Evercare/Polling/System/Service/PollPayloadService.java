@@ -0,0 +1,10 @@
+package New.Poll.App.Evercare.Polling.System.Service;
+
+import New.Poll.App.Evercare.Polling.System.DTO.RenderedPayload;
+
+import java.util.Map;
+
+public interface PollPayloadService {
+    RenderedPayload getPollPayload(String pollCode);
+    Map<String, Object> getStats();
+}
\ No newline at end of file
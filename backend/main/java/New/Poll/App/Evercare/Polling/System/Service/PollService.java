@@ -2,6 +2,7 @@ package New.Poll.App.Evercare.Polling.System.Service;
 
 import New.Poll.App.Evercare.Polling.System.DTO.AdminDashboardDto;
 import New.Poll.App.Evercare.Polling.System.DTO.CreatePollRequest;
+import New.Poll.App.Evercare.Polling.System.DTO.PollPageDto;
 import New.Poll.App.Evercare.Polling.System.DTO.PollResponse;
 import New.Poll.App.Evercare.Polling.System.DTO.PollResultsDto;
 
@@ -9,10 +10,15 @@ import java.util.List;
 
 public interface PollService {
     PollResponse createPoll(Long adminId, CreatePollRequest request);
+    List<PollResponse> createPolls(Long adminId, List<CreatePollRequest> requests);
     PollResponse getPollByCode(String pollCode);
-    List<PollResponse> getPollsByAdmin(Long adminId);
+    PollPageDto getPollsByAdmin(Long adminId, String cursor, Integer size, boolean summary);
     AdminDashboardDto getAdminDashboard(Long adminId);
     PollResponse updatePollStatus(Long pollId, Long pollStatusId);
     void deletePoll(Long pollId);
+    void reconcileResponseCounters(Long pollId);
+    void reconcileAllResponseCounters();
     PollResultsDto getPollResults(String pollCode);
+    String getPollETag(String pollCode);
+    String getResultsETag(String pollCode);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package New.Poll.App.Evercare.Polling.System.Service;
+
+import java.util.Map;
+
+public interface QrCodeService {
+    byte[] getQrCode(String pollCode, String format);
+    void evict(String pollCode);
+    Map<String, Object> getStats();
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package New.Poll.App.Evercare.Polling.System.Service;
+
+import java.util.Map;
+
+public interface RateLimitService {
+    long tryAcquire(String clientKey, String pollCode);
+    long tryIssueVoterToken(String clientAddress);
+    Map<String, Object> getStats();
+}
\ No newline at end of file
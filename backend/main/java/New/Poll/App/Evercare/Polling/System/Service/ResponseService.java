@@ -4,6 +4,7 @@ import New.Poll.App.Evercare.Polling.System.DTO.SubmitResponseRequest;
 import New.Poll.App.Evercare.Polling.System.DTO.PollResultsDto;
 
 public interface ResponseService {
-    void submitResponse(SubmitResponseRequest request);
+    void submitResponse(SubmitResponseRequest request, String voterFingerprint);
     PollResultsDto getResults(String pollCode);
+    String getResultsETag(String pollCode);
 }
\ No newline at end of file
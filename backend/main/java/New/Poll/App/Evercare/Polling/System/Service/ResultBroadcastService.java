@@ -0,0 +1,8 @@
+package New.Poll.App.Evercare.Polling.System.Service;
+
+public interface ResultBroadcastService {
+    void markDirty(String pollCode);
+    void markAllDirty();
+    void setBroadcasting(boolean broadcasting);
+    void flush();
+}
\ No newline at end of file
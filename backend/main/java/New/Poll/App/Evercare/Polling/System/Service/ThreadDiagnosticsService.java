@@ -0,0 +1,7 @@
+package New.Poll.App.Evercare.Polling.System.Service;
+
+import java.util.Map;
+
+public interface ThreadDiagnosticsService {
+    Map<String, Object> getStats();
+}
\ No newline at end of file
@@ -1,8 +1,8 @@
 package New.Poll.App.Evercare.Polling.System.Service;
 
 import New.Poll.App.Evercare.Polling.System.DTO.SubmitResponseRequest;
-import New.Poll.App.Evercare.Polling.System.Model.Poll;
+import New.Poll.App.Evercare.Polling.System.DTO.PollDefinition;
 
 public interface ValidationService {
-    void validateDemographics(SubmitResponseRequest request, Poll poll);
+    void validateDemographics(SubmitResponseRequest request, PollDefinition poll);
 }
\ No newline at end of file
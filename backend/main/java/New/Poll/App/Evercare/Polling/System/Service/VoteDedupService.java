@@ -0,0 +1,9 @@
+package New.Poll.App.Evercare.Polling.System.Service;
+
+import java.util.Map;
+
+public interface VoteDedupService {
+    void checkNewVoter(Long pollId, String voterFingerprint);
+    void evict(Long pollId);
+    Map<String, Object> getStats();
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package New.Poll.App.Evercare.Polling.System.Service;
+
+import New.Poll.App.Evercare.Polling.System.DTO.VoteEvent;
+
+import java.util.List;
+import java.util.Map;
+
+public interface VoteEventRelay {
+    void publish(List<VoteEvent> events);
+    Map<String, Object> getStats();
+}
\ No newline at end of file
@@ -0,0 +1,8 @@
+package New.Poll.App.Evercare.Polling.System.Service;
+
+import New.Poll.App.Evercare.Polling.System.DTO.PendingSubmission;
+
+public interface VoteIngestionService {
+    boolean isAsync();
+    void enqueue(PendingSubmission submission);
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package New.Poll.App.Evercare.Polling.System.Service;
+
+import java.util.List;
+
+public interface VoteTallyService {
+    void recordVotes(Long pollId, List<Long> answerIds, long sequence);
+    long getAnswerCount(Long pollId, Long answerId);
+    long getTotalResponses(Long pollId);
+    long getSequence(Long pollId);
+    void rebuild(Long pollId);
+    void evict(Long pollId);
+    void evictAll();
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package New.Poll.App.Evercare.Polling.System.Service;
+
+public interface VoterIdentityService {
+    String COOKIE_NAME = "voter_token";
+
+    String issueToken();
+    boolean isValidToken(String token);
+    String fingerprint(String pollCode, String token);
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.Exception.ServiceUnavailableException;
+import New.Poll.App.Evercare.Polling.System.Service.AdmissionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive concurrency limit (AIMD) for vote submissions. Requests beyond the
+ * current limit fail fast with 503 instead of queueing on the connection
+ * pool. The limit grows by about one per limit's worth of fast completions
+ * while it is being used, and is cut by the backoff ratio when a submission
+ * takes longer than the latency target or fails in the database.
+ */
+@Service
+public class AdmissionServiceImpl implements AdmissionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionServiceImpl.class);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+    private final long retryAfterSeconds;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private long lastDecreaseNanos;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder shed = new LongAdder();
+    private final LongAdder decreases = new LongAdder();
+
+    public AdmissionServiceImpl(@Value("${app.admission.initial-limit:10}") int initialLimit,
+                                @Value("${app.admission.min-limit:2}") int minLimit,
+                                @Value("${app.admission.max-limit:100}") int maxLimit,
+                                @Value("${app.admission.latency-target-ms:250}") long latencyTargetMs,
+                                @Value("${app.admission.backoff-ratio:0.9}") double backoffRatio,
+                                @Value("${app.admission.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMs);
+        this.backoffRatio = backoffRatio;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                shed.increment();
+                throw new ServiceUnavailableException("Server is busy, please retry", retryAfterSeconds);
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        admitted.increment();
+
+        long start = System.nanoTime();
+        boolean overloaded = false;
+        try {
+            task.run();
+        } catch (DataAccessException | TransactionException e) {
+            // Pool timeouts, lock timeouts and the like; client errors say nothing about load
+            overloaded = true;
+            throw e;
+        } finally {
+            inFlight.decrementAndGet();
+            long latency = System.nanoTime() - start;
+            onComplete(latency, overloaded || latency > latencyTargetNanos, current + 1);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("limit", (int) limit);
+        stats.put("inFlight", inFlight.get());
+        stats.put("minLimit", minLimit);
+        stats.put("maxLimit", maxLimit);
+        stats.put("admitted", admitted.sum());
+        stats.put("shed", shed.sum());
+        stats.put("decreases", decreases.sum());
+        return stats;
+    }
+
+    private synchronized void onComplete(long latencyNanos, boolean overloaded, int inFlightAtStart) {
+        long now = System.nanoTime();
+        if (overloaded) {
+            // One cut per latency target, so a batch of slow completions counts as one signal
+            if (now - lastDecreaseNanos > latencyTargetNanos) {
+                lastDecreaseNanos = now;
+                double previous = limit;
+                limit = Math.max(minLimit, limit * backoffRatio);
+                decreases.increment();
+                if ((int) limit != (int) previous) {
+                    logger.debug("Admission limit lowered to {} (latency {} ms)", (int) limit,
+                            TimeUnit.NANOSECONDS.toMillis(latencyNanos));
+                }
+            }
+        } else if (inFlightAtStart * 2 >= limit) {
+            // Only grow while the limit is actually being used
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,82 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fixed-size Bloom filter over strings. mightContain never returns false for
+ * a key that was put; it returns true for an absent key with roughly the
+ * configured probability while no more than the expected number of keys have
+ * been added.
+ */
+final class BloomFilter {
+
+    private final long[] bits;
+    private final long numBits;
+    private final int numHashes;
+    private final int expectedInsertions;
+    private int insertions;
+
+    BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        this.expectedInsertions = Math.max(expectedInsertions, 1);
+        long optimalBits = (long) Math.ceil(-this.expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.numBits = Math.max(64, (optimalBits + 63) / 64 * 64);
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / this.expectedInsertions * Math.log(2)));
+        this.bits = new long[(int) (numBits / 64)];
+    }
+
+    synchronized boolean mightContain(String key) {
+        long hash = hash(key);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, numBits);
+            if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    synchronized void put(String key) {
+        long hash = hash(key);
+        long h1 = mix(hash);
+        long h2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            long index = Long.remainderUnsigned(h1 + i * h2, numBits);
+            bits[(int) (index >>> 6)] |= 1L << index;
+        }
+        insertions++;
+    }
+
+    // Past this point the false positive rate climbs, so callers rebuild a larger filter
+    synchronized boolean isSaturated() {
+        return insertions > expectedInsertions;
+    }
+
+    int getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    long getSizeInBytes() {
+        return bits.length * 8L;
+    }
+
+    // FNV-1a over the UTF-8 bytes
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,143 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.Service.PollCodeGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+
+/**
+ * Short, URL-safe, non-sequential poll codes (at most 11 base-62 characters).
+ *
+ * Each code starts as a 64-bit id made of milliseconds since 2024-01-01
+ * (41 bits), the node id (10 bits) and a per-millisecond sequence (12 bits),
+ * which is unique as long as every node has its own app.poll-code.node-id.
+ * The id is then encrypted with a keyed permutation, a Feistel network whose
+ * round function is HMAC-SHA256 under app.poll-code.secret. Distinct ids
+ * always give distinct codes, but without the secret a code reveals nothing
+ * about its id and neighbouring codes cannot be derived from it.
+ *
+ * Several nodes sharing the database (app.websocket.broker other than
+ * simple) must share the secret and each have a node id, so the generator
+ * refuses to start without them. A single node without a secret uses a random
+ * key and warns. Codes are then only guaranteed distinct within one run; a
+ * clash with an earlier run is astronomically unlikely and the unique
+ * poll_code column would reject it.
+ */
+@Service
+@ConditionalOnProperty(name = "app.poll-code.generator", havingValue = "compact", matchIfMissing = true)
+public class CompactPollCodeGenerator implements PollCodeGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompactPollCodeGenerator.class);
+
+    private static final long EPOCH_MILLIS = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    // More than the four rounds Luby-Rackoff needs, since each half is only 32 bits
+    private static final int ROUNDS = 8;
+
+    private static final char[] ALPHABET =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    private final long nodeId;
+    private final Mac mac;
+
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    public CompactPollCodeGenerator(@Value("${app.poll-code.node-id:}") String nodeId,
+                                    @Value("${app.poll-code.secret:}") String secret,
+                                    @Value("${app.websocket.broker:simple}") String brokerMode) {
+        boolean multiNode = !"simple".equalsIgnoreCase(brokerMode);
+        byte[] key;
+        if (secret.isBlank()) {
+            if (multiNode) {
+                throw new IllegalStateException("app.poll-code.secret (POLL_CODE_SECRET) must be set on every node "
+                        + "when app.websocket.broker=" + brokerMode);
+            }
+            logger.warn("app.poll-code.secret (POLL_CODE_SECRET) is not set, using a random key; "
+                    + "set it before running in production");
+            key = new byte[32];
+            new SecureRandom().nextBytes(key);
+        } else {
+            key = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        if (nodeId.isBlank()) {
+            if (multiNode) {
+                throw new IllegalStateException("app.poll-code.node-id (POLL_CODE_NODE_ID) must be set on every node "
+                        + "when app.websocket.broker=" + brokerMode);
+            }
+            this.nodeId = 0;
+        } else {
+            this.nodeId = Long.parseLong(nodeId.trim());
+        }
+        if (this.nodeId < 0 || this.nodeId > MAX_NODE) {
+            throw new IllegalArgumentException("app.poll-code.node-id must be between 0 and " + MAX_NODE);
+        }
+        try {
+            this.mac = Mac.getInstance("HmacSHA256");
+            this.mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 is not available", e);
+        }
+    }
+
+    @Override
+    public synchronized String nextCode() {
+        return encode(encrypt(nextId()));
+    }
+
+    private long nextId() {
+        // Never step back in time, even if the wall clock does
+        long timestamp = Math.max(System.currentTimeMillis() - EPOCH_MILLIS, lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                // 4096 codes in this millisecond already, borrow the next one
+                timestamp++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    // Each round only xors one half with a function of the other, so the whole network is a bijection
+    private long encrypt(long value) {
+        int left = (int) (value >>> 32);
+        int right = (int) value;
+        for (int round = 0; round < ROUNDS; round++) {
+            int next = left ^ roundFunction(round, right);
+            left = right;
+            right = next;
+        }
+        return ((long) left << 32) | (right & 0xffffffffL);
+    }
+
+    private int roundFunction(int round, int half) {
+        byte[] digest = mac.doFinal(new byte[]{(byte) round,
+                (byte) (half >>> 24), (byte) (half >>> 16), (byte) (half >>> 8), (byte) half});
+        return ((digest[0] & 0xff) << 24) | ((digest[1] & 0xff) << 16) | ((digest[2] & 0xff) << 8) | (digest[3] & 0xff);
+    }
+
+    private static String encode(long value) {
+        char[] buffer = new char[11];
+        int position = buffer.length;
+        do {
+            buffer[--position] = ALPHABET[(int) Long.remainderUnsigned(value, 62)];
+            value = Long.divideUnsigned(value, 62);
+        } while (value != 0);
+        return new String(buffer, position, buffer.length - position);
+    }
+}
\ No newline at end of file
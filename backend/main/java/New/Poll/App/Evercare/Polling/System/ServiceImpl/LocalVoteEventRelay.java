@@ -0,0 +1,58 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.DTO.VoteEvent;
+import New.Poll.App.Evercare.Polling.System.Service.ResultBroadcastService;
+import New.Poll.App.Evercare.Polling.System.Service.VoteEventRelay;
+import New.Poll.App.Evercare.Polling.System.Service.VoteTallyService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single-node relay for app.websocket.broker=simple: committed votes only
+ * reach this node's tally and its in-memory broker. Also the stand-in for the
+ * Postgres relay when running one instance locally.
+ */
+@Service
+@ConditionalOnProperty(name = "app.websocket.broker", havingValue = "simple", matchIfMissing = true)
+public class LocalVoteEventRelay implements VoteEventRelay {
+
+    @Autowired
+    private VoteTallyService voteTallyService;
+
+    @Autowired
+    private ResultBroadcastService resultBroadcastService;
+
+    private final LongAdder applied = new LongAdder();
+
+    @Override
+    public void publish(List<VoteEvent> events) {
+        // Only count the votes in memory and schedule a broadcast once they are committed
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                for (VoteEvent event : events) {
+                    voteTallyService.recordVotes(event.getPollId(), event.getAnswerIds(), event.getSequence());
+                    // Broadcast is coalesced per poll by the scheduler
+                    resultBroadcastService.markDirty(event.getPollCode());
+                }
+                applied.add(events.size());
+            }
+        });
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", "simple");
+        stats.put("applied", applied.sum());
+        return stats;
+    }
+}
\ No newline at end of file
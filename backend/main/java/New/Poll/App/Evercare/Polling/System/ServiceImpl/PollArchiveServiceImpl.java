@@ -0,0 +1,361 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.DTO.ResponseAnswer;
+import New.Poll.App.Evercare.Polling.System.DTO.SubmissionRecord;
+import New.Poll.App.Evercare.Polling.System.Exception.BadRequestException;
+import New.Poll.App.Evercare.Polling.System.Exception.ResourceNotFoundException;
+import New.Poll.App.Evercare.Polling.System.Model.Poll;
+import New.Poll.App.Evercare.Polling.System.Repository.PollRepository;
+import New.Poll.App.Evercare.Polling.System.Repository.ResponseRepository;
+import New.Poll.App.Evercare.Polling.System.Repository.SubmissionRepository;
+import New.Poll.App.Evercare.Polling.System.Service.PollArchiveService;
+import New.Poll.App.Evercare.Polling.System.Service.PollCacheInvalidator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Moves the responses of completed polls out of the hot tables. Once a poll
+ * has been COMPLETED for app.archive.min-age-days, its submissions and
+ * responses are written to one gzipped, column-ordered file per poll under
+ * app.archive.directory and deleted from Postgres. The poll, its questions
+ * and the stored answer and poll counters stay, so results are served
+ * unchanged; {@link #readSubmissions} reads from whichever store holds the
+ * poll's submissions.
+ *
+ * The poll row is locked for the whole run. Votes write the same row
+ * (PollRepository.incrementResponseCounters), so none can commit between
+ * reading the rows and deleting them. Completed polls refuse new votes anyway.
+ *
+ * Any node may archive a poll and any node may later read it back, so with
+ * more than one node (app.websocket.broker other than simple) the directory
+ * must be storage every node sees. Startup fails unless
+ * app.archive.shared-directory says it is.
+ */
+@Service
+public class PollArchiveServiceImpl implements PollArchiveService, SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(PollArchiveServiceImpl.class);
+
+    private static final int MAGIC = 0x50415243; // "PARC"
+    private static final int FORMAT_VERSION = 1;
+
+    @Autowired
+    private PollRepository pollRepository;
+
+    @Autowired
+    private ResponseRepository responseRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private PollCacheInvalidator pollCacheInvalidator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.archive.directory:data/archive}")
+    private String directory;
+
+    @Value("${app.archive.min-age-days:30}")
+    private long minAgeDays;
+
+    @Value("${app.archive.shared-directory:false}")
+    private boolean sharedDirectory;
+
+    @Value("${app.websocket.broker:simple}")
+    private String brokerMode;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!"simple".equalsIgnoreCase(brokerMode) && !sharedDirectory) {
+            throw new IllegalStateException("app.archive.directory (" + directory + ") must be shared by every node "
+                    + "when app.websocket.broker=" + brokerMode + "; mount shared storage there and set "
+                    + "app.archive.shared-directory=true");
+        }
+    }
+
+    @Override
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public void archiveCompletedPolls() {
+        List<Long> pollIds = pollRepository.findArchivableIds(LocalDateTime.now().minusDays(minAgeDays));
+        for (Long pollId : pollIds) {
+            try {
+                archivePoll(pollId);
+            } catch (Exception e) {
+                logger.error("Failed to archive poll {}", pollId, e);
+            }
+        }
+    }
+
+    @Override
+    public void archivePoll(Long pollId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            // Held until commit: a vote in flight finishes first and is archived, later ones are refused
+            Poll poll = pollRepository.findByIdForUpdate(pollId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Poll not found"));
+            if (poll.getArchivedAt() != null) {
+                return;
+            }
+            if (!"COMPLETED".equals(poll.getPollStatus().getName())) {
+                throw new BadRequestException("Only completed polls can be archived");
+            }
+
+            List<SubmissionRecord> submissions = toRecords(responseRepository.findSubmissionRowsByPollId(pollId));
+            // The file is complete on disk before any row is deleted; if the
+            // transaction then fails, the next run simply rewrites it
+            write(archiveFile(pollId), pollId, submissions);
+
+            responseRepository.deleteByPollId(pollId);
+            submissionRepository.deleteByPollId(pollId);
+            poll.setArchivedAt(LocalDateTime.now());
+
+            pollCacheInvalidator.definitionChanged(poll.getPollCode());
+            logger.info("Archived poll {} with {} submissions", pollId, submissions.size());
+        });
+    }
+
+    @Override
+    public List<SubmissionRecord> readSubmissions(Long pollId) {
+        Poll poll = pollRepository.findById(pollId)
+                .orElseThrow(() -> new ResourceNotFoundException("Poll not found"));
+        if (poll.getArchivedAt() != null) {
+            Path file = archiveFile(pollId);
+            if (!Files.exists(file)) {
+                throw new IllegalStateException("Archive of poll " + pollId + " is missing from " + file.toAbsolutePath()
+                        + "; is app.archive.directory shared by every node?");
+            }
+            return read(file, pollId);
+        }
+        return toRecords(responseRepository.findSubmissionRowsByPollId(pollId));
+    }
+
+    @Override
+    public void deleteArchive(Long pollId) {
+        try {
+            Files.deleteIfExists(archiveFile(pollId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete archive of poll " + pollId, e);
+        }
+    }
+
+    private Path archiveFile(Long pollId) {
+        return Paths.get(directory, "poll-" + pollId + ".parc.gz");
+    }
+
+    // Rows are ordered by submission id, one row per answer
+    private List<SubmissionRecord> toRecords(List<Object[]> rows) {
+        List<SubmissionRecord> records = new ArrayList<>();
+        Object[] current = null;
+        List<ResponseAnswer> answers = null;
+        for (Object[] row : rows) {
+            if (current == null || !current[0].equals(row[0])) {
+                if (current != null) {
+                    records.add(toRecord(current, answers));
+                }
+                current = row;
+                answers = new ArrayList<>();
+            }
+            answers.add(new ResponseAnswer((Long) row[5], (Long) row[6]));
+        }
+        if (current != null) {
+            records.add(toRecord(current, answers));
+        }
+        return records;
+    }
+
+    private SubmissionRecord toRecord(Object[] row, List<ResponseAnswer> answers) {
+        return new SubmissionRecord((Long) row[0], (LocalDateTime) row[1], (String) row[2], (String) row[3],
+                (Integer) row[4], answers);
+    }
+
+    /*
+     * File layout (after gzip), one column at a time so similar values sit
+     * together: header, submission ids (delta), created_at millis (delta),
+     * names, genders, ages, answers per submission, question ids (delta),
+     * answer ids (delta). Integers are zigzag varints.
+     */
+    private void write(Path file, Long pollId, List<SubmissionRecord> submissions) {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(tmp))))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(pollId);
+                out.writeInt(submissions.size());
+
+                long previous = 0;
+                for (SubmissionRecord submission : submissions) {
+                    writeVarLong(out, submission.getId() - previous);
+                    previous = submission.getId();
+                }
+                previous = 0;
+                for (SubmissionRecord submission : submissions) {
+                    out.writeBoolean(submission.getCreatedAt() != null);
+                    if (submission.getCreatedAt() != null) {
+                        long millis = submission.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+                        writeVarLong(out, millis - previous);
+                        previous = millis;
+                    }
+                }
+                for (SubmissionRecord submission : submissions) {
+                    writeString(out, submission.getRespondentName());
+                }
+                for (SubmissionRecord submission : submissions) {
+                    writeString(out, submission.getRespondentGender());
+                }
+                for (SubmissionRecord submission : submissions) {
+                    // 0 is null, otherwise age + 1
+                    writeVarLong(out, submission.getRespondentAge() != null ? submission.getRespondentAge() + 1L : 0L);
+                }
+                for (SubmissionRecord submission : submissions) {
+                    writeVarLong(out, submission.getAnswers().size());
+                }
+                previous = 0;
+                for (SubmissionRecord submission : submissions) {
+                    for (ResponseAnswer answer : submission.getAnswers()) {
+                        writeVarLong(out, answer.getQuestionId() - previous);
+                        previous = answer.getQuestionId();
+                    }
+                }
+                previous = 0;
+                for (SubmissionRecord submission : submissions) {
+                    for (ResponseAnswer answer : submission.getAnswers()) {
+                        writeVarLong(out, answer.getAnswerId() - previous);
+                        previous = answer.getAnswerId();
+                    }
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write archive of poll " + pollId, e);
+        }
+    }
+
+    private List<SubmissionRecord> read(Path file, Long pollId) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || in.readLong() != pollId) {
+                throw new IllegalStateException("Unrecognised archive file for poll " + pollId);
+            }
+            int count = in.readInt();
+
+            long[] ids = new long[count];
+            long previous = 0;
+            for (int i = 0; i < count; i++) {
+                previous += readVarLong(in);
+                ids[i] = previous;
+            }
+            LocalDateTime[] createdAt = new LocalDateTime[count];
+            previous = 0;
+            for (int i = 0; i < count; i++) {
+                if (in.readBoolean()) {
+                    previous += readVarLong(in);
+                    createdAt[i] = LocalDateTime.ofInstant(Instant.ofEpochMilli(previous), ZoneOffset.UTC);
+                }
+            }
+            String[] names = new String[count];
+            for (int i = 0; i < count; i++) {
+                names[i] = readString(in);
+            }
+            String[] genders = new String[count];
+            for (int i = 0; i < count; i++) {
+                genders[i] = readString(in);
+            }
+            Integer[] ages = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                long age = readVarLong(in);
+                ages[i] = age == 0 ? null : (int) (age - 1);
+            }
+            int[] answerCounts = new int[count];
+            int totalAnswers = 0;
+            for (int i = 0; i < count; i++) {
+                answerCounts[i] = (int) readVarLong(in);
+                totalAnswers += answerCounts[i];
+            }
+            long[] questionIds = new long[totalAnswers];
+            previous = 0;
+            for (int i = 0; i < totalAnswers; i++) {
+                previous += readVarLong(in);
+                questionIds[i] = previous;
+            }
+            long[] answerIds = new long[totalAnswers];
+            previous = 0;
+            for (int i = 0; i < totalAnswers; i++) {
+                previous += readVarLong(in);
+                answerIds[i] = previous;
+            }
+
+            List<SubmissionRecord> records = new ArrayList<>(count);
+            int offset = 0;
+            for (int i = 0; i < count; i++) {
+                List<ResponseAnswer> answers = new ArrayList<>(answerCounts[i]);
+                for (int j = 0; j < answerCounts[i]; j++, offset++) {
+                    answers.add(new ResponseAnswer(questionIds[offset], answerIds[offset]));
+                }
+                records.add(new SubmissionRecord(ids[i], createdAt[i], names[i], genders[i], ages[i], answers));
+            }
+            return records;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read archive of poll " + pollId, e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.writeByte((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.writeByte((int) zigzag);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long zigzag = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            zigzag |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.Service.PollCacheInvalidator;
+import New.Poll.App.Evercare.Polling.System.Service.PollDefinitionCache;
+import New.Poll.App.Evercare.Polling.System.Service.QrCodeService;
+import New.Poll.App.Evercare.Polling.System.Service.VoteDedupService;
+import New.Poll.App.Evercare.Polling.System.Service.VoteTallyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.util.UUID;
+
+/**
+ * Drops the node-local copies of a poll when it changes. Writers call this
+ * inside their transaction: the caches on this node are cleared after commit,
+ * and with app.websocket.broker other than simple an INV notification goes
+ * out on the vote relay's channel, so Postgres delivers it to every other node
+ * on commit as well (see PostgresVoteEventRelay).
+ *
+ * Payload: INV|origin|scope|pollId|pollCode, where scope is DEFINITION (status
+ * change, archive), DELETED or COUNTERS. A COUNTERS payload without a poll id
+ * drops every tally.
+ *
+ * The poll payload cache needs no message of its own: it is keyed by the
+ * ETag, which comes from the definition cache.
+ */
+@Service
+public class PollCacheInvalidatorImpl implements PollCacheInvalidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(PollCacheInvalidatorImpl.class);
+
+    static final String PREFIX = "INV|";
+
+    private static final String DEFINITION = "DEFINITION";
+    private static final String DELETED = "DELETED";
+    private static final String COUNTERS = "COUNTERS";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PollDefinitionCache pollDefinitionCache;
+
+    @Autowired
+    private QrCodeService qrCodeService;
+
+    @Autowired
+    private VoteDedupService voteDedupService;
+
+    @Autowired
+    private VoteTallyService voteTallyService;
+
+    @Value("${app.websocket.broker:simple}")
+    private String brokerMode;
+
+    // This node already cleared its own caches after commit; Postgres also delivers to the sender
+    private final String origin = UUID.randomUUID().toString().substring(0, 8);
+
+    @Override
+    public void definitionChanged(String pollCode) {
+        notifyOtherNodes(DEFINITION, null, pollCode);
+        afterCommit(() -> evict(DEFINITION, null, pollCode));
+    }
+
+    @Override
+    public void pollDeleted(Long pollId, String pollCode) {
+        notifyOtherNodes(DELETED, pollId, pollCode);
+        afterCommit(() -> evict(DELETED, pollId, pollCode));
+    }
+
+    @Override
+    public void countersReconciled(Long pollId) {
+        // This node rebuilds its own tallies inside the reconcile; only the others need telling
+        notifyOtherNodes(COUNTERS, pollId, "");
+    }
+
+    @Override
+    public void applyRemote(String payload) {
+        String[] parts = payload.split("\\|", -1);
+        if (parts.length != 5 || origin.equals(parts[1])) {
+            return;
+        }
+        try {
+            evict(parts[2], parts[3].isEmpty() ? null : Long.valueOf(parts[3]), parts[4]);
+        } catch (RuntimeException e) {
+            logger.warn("Ignoring cache invalidation {}: {}", payload, e.getMessage());
+        }
+    }
+
+    private void evict(String scope, Long pollId, String pollCode) {
+        if (DEFINITION.equals(scope)) {
+            pollDefinitionCache.invalidate(pollCode);
+        } else if (DELETED.equals(scope)) {
+            pollDefinitionCache.invalidate(pollCode);
+            qrCodeService.evict(pollCode);
+            voteDedupService.evict(pollId);
+            voteTallyService.evict(pollId);
+        } else if (COUNTERS.equals(scope)) {
+            if (pollId != null) {
+                voteTallyService.evict(pollId);
+            } else {
+                voteTallyService.evictAll();
+            }
+        } else {
+            logger.warn("Unknown cache invalidation scope: {}", scope);
+        }
+    }
+
+    private void notifyOtherNodes(String scope, Long pollId, String pollCode) {
+        if ("simple".equalsIgnoreCase(brokerMode)) {
+            return;
+        }
+        // Runs on the transaction's connection, so it is only delivered if the change commits
+        String payload = PREFIX + origin + "|" + scope + "|" + (pollId != null ? pollId : "") + "|" + pollCode;
+        jdbcTemplate.query("SELECT pg_notify(?, ?)",
+                ps -> {
+                    ps.setString(1, PostgresVoteEventRelay.CHANNEL);
+                    ps.setString(2, payload);
+                },
+                (ResultSet rs) -> { });
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,216 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.DTO.ChartTypeDto;
+import New.Poll.App.Evercare.Polling.System.DTO.PollDefinition;
+import New.Poll.App.Evercare.Polling.System.DTO.PollStatusDto;
+import New.Poll.App.Evercare.Polling.System.Exception.ResourceNotFoundException;
+import New.Poll.App.Evercare.Polling.System.Model.Poll;
+import New.Poll.App.Evercare.Polling.System.Repository.PollRepository;
+import New.Poll.App.Evercare.Polling.System.Repository.QuestionRepository;
+import New.Poll.App.Evercare.Polling.System.Service.PollDefinitionCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through LRU cache of {@link PollDefinition}s keyed by poll code.
+ * Bounded by the estimated size of the entries (app.poll-cache.max-weight-bytes)
+ * and by age (app.poll-cache.ttl-seconds). Writers call {@link #invalidate}
+ * once their change has committed.
+ */
+@Service
+public class PollDefinitionCacheImpl implements PollDefinitionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PollDefinitionCacheImpl.class);
+
+    @Autowired
+    private PollRepository pollRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.poll-cache.max-weight-bytes:16777216}")
+    private long maxWeight;
+
+    @Value("${app.poll-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    // Access-ordered, so iteration starts at the least recently used entry
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long weight;
+
+    // Bumped by every invalidation so a load that raced with one is not cached
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    @Override
+    public PollDefinition get(String pollCode) {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Entry entry = entries.get(pollCode);
+            if (entry != null) {
+                if (now < entry.expiresAt) {
+                    hits.increment();
+                    return entry.definition;
+                }
+                remove(pollCode);
+                expirations.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        // Loaded outside the lock; two concurrent misses may both load, which is harmless
+        misses.increment();
+        long generation = invalidations.get();
+        PollDefinition definition = load(pollCode);
+
+        lock.lock();
+        try {
+            if (generation == invalidations.get()) {
+                remove(pollCode);
+                Entry entry = new Entry(definition, now + TimeUnit.SECONDS.toNanos(ttlSeconds));
+                entries.put(pollCode, entry);
+                weight += entry.weight;
+                evictToFit();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return definition;
+    }
+
+    @Override
+    public void invalidate(String pollCode) {
+        lock.lock();
+        try {
+            invalidations.incrementAndGet();
+            remove(pollCode);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            invalidations.incrementAndGet();
+            entries.clear();
+            weight = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requests = hitCount + missCount;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        lock.lock();
+        try {
+            stats.put("entries", entries.size());
+            stats.put("weightBytes", weight);
+        } finally {
+            lock.unlock();
+        }
+        stats.put("maxWeightBytes", maxWeight);
+        stats.put("ttlSeconds", ttlSeconds);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRatio", requests > 0 ? (double) hitCount / requests : 0.0);
+        stats.put("evictions", evictions.sum());
+        stats.put("expirations", expirations.sum());
+        stats.put("invalidations", invalidations.get());
+        return stats;
+    }
+
+    private void remove(String pollCode) {
+        Entry removed = entries.remove(pollCode);
+        if (removed != null) {
+            weight -= removed.weight;
+        }
+    }
+
+    private void evictToFit() {
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        // Always keep the newest entry, even if it alone is over the limit
+        while (weight > maxWeight && entries.size() > 1 && iterator.hasNext()) {
+            weight -= iterator.next().getValue().weight;
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private PollDefinition load(String pollCode) {
+        PollDefinition definition = transactionTemplate.execute(status -> {
+            Poll poll = pollRepository.findTreeByPollCode(pollCode)
+                    .orElseThrow(() -> new ResourceNotFoundException("Poll not found with code: " + pollCode));
+            // Populates question.getAnswers() for the whole poll in one query
+            questionRepository.findWithAnswersByPollId(poll.getId());
+            return toDefinition(poll);
+        });
+        logger.debug("Loaded poll definition {}", pollCode);
+        return definition;
+    }
+
+    private PollDefinition toDefinition(Poll poll) {
+        List<PollDefinition.QuestionDefinition> questions = poll.getQuestions().stream()
+                .map(question -> new PollDefinition.QuestionDefinition(question.getId(), question.getText(),
+                        question.getQuestionOrder(),
+                        question.getAnswers() != null
+                                ? question.getAnswers().stream()
+                                .map(answer -> new PollDefinition.AnswerDefinition(answer.getId(), answer.getText(),
+                                        answer.getAnswerOrder()))
+                                .collect(Collectors.toList())
+                                : new ArrayList<>()))
+                .collect(Collectors.toList());
+
+        return new PollDefinition(poll.getId(), poll.getPollCode(), poll.getTitle(), poll.getShareLink(),
+                poll.getQrCode(), poll.getAllowViewResults(), poll.getAdminId(),
+                new ArrayList<>(poll.getRequiredDemographics()),
+                new PollStatusDto(poll.getPollStatus().getId(), poll.getPollStatus().getName(),
+                        poll.getPollStatus().getDescription()),
+                new ChartTypeDto(poll.getChartType().getId(), poll.getChartType().getName(),
+                        poll.getChartType().getDescription()),
+                questions, poll.getUpdatedAt(), poll.getArchivedAt());
+    }
+
+    private static final class Entry {
+        private final PollDefinition definition;
+        private final long expiresAt;
+        private final long weight;
+
+        private Entry(PollDefinition definition, long expiresAt) {
+            this.definition = definition;
+            this.expiresAt = expiresAt;
+            this.weight = definition.estimateWeight();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.DTO.ResponseAnswer;
+import New.Poll.App.Evercare.Polling.System.DTO.SubmissionRecord;
+import New.Poll.App.Evercare.Polling.System.Model.Answer;
+import New.Poll.App.Evercare.Polling.System.Model.Question;
+import New.Poll.App.Evercare.Polling.System.Repository.QuestionRepository;
+import New.Poll.App.Evercare.Polling.System.Service.PollArchiveService;
+import New.Poll.App.Evercare.Polling.System.Service.PollExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class PollExportServiceImpl implements PollExportService {
+
+    @Autowired
+    private PollArchiveService pollArchiveService;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public byte[] exportCsv(Long pollId) {
+        // Archived polls are read from their archive file, live ones from the database
+        List<SubmissionRecord> submissions = pollArchiveService.readSubmissions(pollId);
+
+        Map<Long, String> questionTexts = new HashMap<>();
+        Map<Long, String> answerTexts = new HashMap<>();
+        for (Question question : questionRepository.findWithAnswersByPollId(pollId)) {
+            questionTexts.put(question.getId(), question.getText());
+            for (Answer answer : question.getAnswers()) {
+                answerTexts.put(answer.getId(), answer.getText());
+            }
+        }
+
+        StringBuilder csv = new StringBuilder("submission_id,submitted_at,respondent_name,respondent_gender,respondent_age,question,answer\n");
+        for (SubmissionRecord submission : submissions) {
+            for (ResponseAnswer answer : submission.getAnswers()) {
+                csv.append(submission.getId()).append(',')
+                        .append(submission.getCreatedAt() != null ? submission.getCreatedAt() : "").append(',')
+                        .append(escape(submission.getRespondentName())).append(',')
+                        .append(escape(submission.getRespondentGender())).append(',')
+                        .append(submission.getRespondentAge() != null ? submission.getRespondentAge() : "").append(',')
+                        .append(escape(questionTexts.get(answer.getQuestionId()))).append(',')
+                        .append(escape(answerTexts.get(answer.getAnswerId()))).append('\n');
+            }
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.DTO.RenderedPayload;
+import New.Poll.App.Evercare.Polling.System.Service.PollPayloadService;
+import New.Poll.App.Evercare.Polling.System.Service.PollService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serializes the public poll definition once per version. The bytes (plain
+ * and gzip) are reused until the poll's ETag changes, so the busiest GET does
+ * no mapping, no Jackson and no compression work.
+ */
+@Service
+public class PollPayloadServiceImpl implements PollPayloadService {
+
+    @Autowired
+    private PollService pollService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.poll-payload.max-entries:1000}")
+    private int maxEntries;
+
+    // Access-ordered LRU; deleted polls are never served because the ETag lookup fails first
+    private final Map<String, RenderedPayload> payloads = new LinkedHashMap<>(256, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder renders = new LongAdder();
+
+    @Override
+    public RenderedPayload getPollPayload(String pollCode) {
+        String eTag = pollService.getPollETag(pollCode);
+        synchronized (payloads) {
+            RenderedPayload payload = payloads.get(pollCode);
+            if (payload != null && payload.getETag().equals(eTag)) {
+                hits.increment();
+                return payload;
+            }
+        }
+
+        // Rendered outside the lock; a concurrent render of the same version is harmless
+        RenderedPayload payload = render(eTag, pollCode);
+        renders.increment();
+        synchronized (payloads) {
+            payloads.put(pollCode, payload);
+            if (payloads.size() > maxEntries) {
+                payloads.remove(payloads.keySet().iterator().next());
+            }
+        }
+        return payload;
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (payloads) {
+            stats.put("entries", payloads.size());
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("hits", hits.sum());
+        stats.put("renders", renders.sum());
+        return stats;
+    }
+
+    private RenderedPayload render(String eTag, String pollCode) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(pollService.getPollByCode(pollCode));
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+            return new RenderedPayload(eTag, json, compressed.toByteArray());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize poll " + pollCode, e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
\ No newline at end of file
@@ -1,15 +1,32 @@
 package New.Poll.App.Evercare.Polling.System.ServiceImpl;
 
+import New.Poll.App.Evercare.Polling.System.Service.PollArchiveService;
+import New.Poll.App.Evercare.Polling.System.Service.PollCacheInvalidator;
+import New.Poll.App.Evercare.Polling.System.Service.PollCodeGenerator;
+import New.Poll.App.Evercare.Polling.System.Service.PollDefinitionCache;
 import New.Poll.App.Evercare.Polling.System.Service.PollService;
+import New.Poll.App.Evercare.Polling.System.Service.VoteTallyService;
 import New.Poll.App.Evercare.Polling.System.Model.*;
 import New.Poll.App.Evercare.Polling.System.Repository.*;
 import New.Poll.App.Evercare.Polling.System.DTO.*;
+import New.Poll.App.Evercare.Polling.System.Exception.BadRequestException;
 import New.Poll.App.Evercare.Polling.System.Exception.ResourceNotFoundException;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,89 +50,112 @@ public class PollServiceImpl implements PollService {
     @Autowired
     private ResponseRepository responseRepository;
 
-    @Override
-    public PollResponse createPoll(Long adminId, CreatePollRequest request) {
-        PollStatus pollStatus = pollStatusRepository.findById(request.getPollStatusId())
-                .orElseThrow(() -> new ResourceNotFoundException("Poll Status not found"));
+    @Autowired
+    private SubmissionRepository submissionRepository;
 
-        ChartType chartType = chartTypeRepository.findById(request.getChartTypeId())
-                .orElseThrow(() -> new ResourceNotFoundException("Chart Type not found"));
+    @Autowired
+    private VoteTallyService voteTallyService;
 
-        String pollCode = generatePollCode();
-        String shareLink = "http://localhost:3000/poll/" + pollCode;
-        String qrCode = "qr_" + pollCode + ".png";
+    @Autowired
+    private PollArchiveService pollArchiveService;
 
-        Poll poll = new Poll(request.getTitle(), pollCode, shareLink, qrCode,
-                pollStatus, chartType, request.getAllowViewResults(), adminId);
-        poll.setRequiredDemographics(request.getRequiredDemographics());
+    @Autowired
+    private PollDefinitionCache pollDefinitionCache;
 
-        Poll savedPoll = pollRepository.save(poll);
+    @Autowired
+    private PollCodeGenerator pollCodeGenerator;
 
-        // Create Questions and Answers
-        if (request.getQuestions() != null && !request.getQuestions().isEmpty()) {
-            for (QuestionRequest qReq : request.getQuestions()) {
-                Question question = new Question(qReq.getText(), qReq.getQuestionOrder(), savedPoll);
-                Question savedQuestion = questionRepository.save(question);
+    @Autowired
+    private PollCacheInvalidator pollCacheInvalidator;
 
-                int answerOrder = 1;
-                if (qReq.getAnswers() != null && !qReq.getAnswers().isEmpty()) {
-                    for (String answerText : qReq.getAnswers()) {
-                        Answer answer = new Answer(answerText, answerOrder, savedQuestion);
-                        answerRepository.save(answer);
-                        answerOrder++;
-                    }
-                }
-            }
-        }
+    @Value("${app.polls.default-page-size:20}")
+    private int defaultPageSize;
 
-        // Fetch all questions for this poll
-        List<Question> questions = questionRepository.findByPollIdOrderByQuestionOrder(savedPoll.getId());
+    @Value("${app.polls.max-page-size:100}")
+    private int maxPageSize;
 
-        // Fetch answers for each question
-        for (Question question : questions) {
-            List<Answer> answers = answerRepository.findByQuestionIdOrderByAnswerOrder(question.getId());
-            question.setAnswers(answers);
-        }
+    @Override
+    @Transactional
+    public PollResponse createPoll(Long adminId, CreatePollRequest request) {
+        PollStatus pollStatus = findPollStatus(request.getPollStatusId());
+        ChartType chartType = findChartType(request.getChartTypeId());
 
-        savedPoll.setQuestions(questions);
+        // The whole Poll -> Question -> Answer graph is persisted by cascade in one batched flush
+        Poll savedPoll = pollRepository.save(buildPoll(adminId, request, pollStatus, chartType));
 
         return mapPollToResponse(savedPoll);
     }
 
+    @Override
+    @Transactional
+    public List<PollResponse> createPolls(Long adminId, List<CreatePollRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BadRequestException("At least one poll is required");
+        }
+
+        Map<Long, PollStatus> pollStatuses = new HashMap<>();
+        Map<Long, ChartType> chartTypes = new HashMap<>();
+
+        List<Poll> polls = requests.stream()
+                .map(request -> buildPoll(adminId, request,
+                        pollStatuses.computeIfAbsent(request.getPollStatusId(), this::findPollStatus),
+                        chartTypes.computeIfAbsent(request.getChartTypeId(), this::findChartType)))
+                .collect(Collectors.toList());
+
+        return pollRepository.saveAll(polls).stream()
+                .map(this::mapPollToResponse)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public PollResponse getPollByCode(String pollCode) {
-        Poll poll = pollRepository.findByPollCode(pollCode)
-                .orElseThrow(() -> new ResourceNotFoundException("Poll not found with code: " + pollCode));
-        return mapPollToResponse(poll);
+        return mapDefinitionToResponse(pollDefinitionCache.get(pollCode));
     }
 
     @Override
-    public List<PollResponse> getPollsByAdmin(Long adminId) {
-        List<Poll> polls = pollRepository.findByAdminIdOrderByCreatedAtDesc(adminId);
-        return polls.stream().map(this::mapPollToResponse).collect(Collectors.toList());
+    @Transactional
+    public PollPageDto getPollsByAdmin(Long adminId, String cursor, Integer size, boolean summary) {
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+
+        // Fetch one extra row to learn whether another page exists
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Poll> polls;
+        if (cursor == null || cursor.isBlank()) {
+            polls = pollRepository.findPageByAdminId(adminId, limit);
+        } else {
+            PollCursor after = PollCursor.decode(cursor);
+            polls = pollRepository.findPageByAdminIdAfter(adminId, after.createdAt, after.id, limit);
+        }
+
+        boolean hasMore = polls.size() > pageSize;
+        if (hasMore) {
+            polls = polls.subList(0, pageSize);
+        }
+
+        List<PollResponse> items = polls.stream()
+                .map(poll -> summary ? mapPollHeader(poll) : mapPollToResponse(poll))
+                .collect(Collectors.toList());
+
+        String nextCursor = hasMore ? PollCursor.encode(polls.get(polls.size() - 1)) : null;
+        return new PollPageDto(items, nextCursor, hasMore);
     }
 
     @Override
+    @Transactional
     public AdminDashboardDto getAdminDashboard(Long adminId) {
-        Long totalPolls = pollRepository.countByAdminId(adminId);
-        Long activePolls = pollStatusRepository.findByName("ACTIVE")
-                .map(status -> pollRepository.countByAdminIdAndPollStatusId(adminId, status.getId()))
-                .orElse(0L);
-
-        List<Poll> allPolls = pollRepository.findByAdminIdOrderByCreatedAtDesc(adminId);
-        Long totalQuestions = allPolls.stream()
-                .mapToLong(poll -> questionRepository.countByPollId(poll.getId()))
-                .sum();
-
-        List<PollResponse> recentPolls = allPolls.stream()
-                .limit(5)
+        // A fixed number of aggregate queries, however many polls the admin has
+        PollRepository.DashboardCounts counts = pollRepository.countDashboardByAdminId(adminId);
+        Long totalQuestions = questionRepository.countByAdminId(adminId);
+
+        List<PollResponse> recentPolls = pollRepository.findTop5ByAdminIdOrderByCreatedAtDesc(adminId).stream()
                 .map(this::mapPollToResponse)
                 .collect(Collectors.toList());
 
-        return new AdminDashboardDto(totalPolls, totalQuestions, activePolls, recentPolls);
+        return new AdminDashboardDto(counts.getTotalPolls(), totalQuestions, counts.getActivePolls(), recentPolls);
     }
 
     @Override
+    @Transactional
     public PollResponse updatePollStatus(Long pollId, Long pollStatusId) {
         Poll poll = pollRepository.findById(pollId)
                 .orElseThrow(() -> new ResourceNotFoundException("Poll not found"));
@@ -123,8 +163,13 @@ public class PollServiceImpl implements PollService {
         PollStatus pollStatus = pollStatusRepository.findById(pollStatusId)
                 .orElseThrow(() -> new ResourceNotFoundException("Poll Status not found"));
 
+        if (poll.getArchivedAt() != null) {
+            throw new BadRequestException("Archived polls cannot be reopened");
+        }
+
         poll.setPollStatus(pollStatus);
         Poll updatedPoll = pollRepository.save(poll);
+        pollCacheInvalidator.definitionChanged(poll.getPollCode());
 
         return mapPollToResponse(updatedPoll);
     }
@@ -134,62 +179,155 @@ public class PollServiceImpl implements PollService {
         Poll poll = pollRepository.findById(pollId)
                 .orElseThrow(() -> new RuntimeException("Poll not found"));
 
-        // Delete all responses associated with this poll first
+        // Delete all responses associated with this poll first, as bulk statements
         responseRepository.deleteByPollId(pollId);
+        submissionRepository.deleteByPollId(pollId);
 
         // Then delete the poll
         pollRepository.delete(poll);
+
+        // The archive file and every node's cached copies can only go once the poll row is really gone
+        pollCacheInvalidator.pollDeleted(pollId, poll.getPollCode());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pollArchiveService.deleteArchive(pollId);
+            }
+        });
     }
+
     @Override
-    public PollResultsDto getPollResults(String pollCode) {
-        Poll poll = pollRepository.findByPollCode(pollCode)
+    @Transactional
+    public void reconcileResponseCounters(Long pollId) {
+        Poll poll = pollRepository.findById(pollId)
                 .orElseThrow(() -> new ResourceNotFoundException("Poll not found"));
+        if (poll.getArchivedAt() != null) {
+            throw new BadRequestException("Archived polls keep their final counts");
+        }
+        answerRepository.reconcileResponseCountsByPollId(pollId);
+        pollRepository.reconcileResponseCounters(pollId);
+        voteTallyService.rebuild(pollId);
+        pollCacheInvalidator.countersReconciled(pollId);
+    }
 
-        Long totalResponses = responseRepository.countByPollId(poll.getId());
+    @Override
+    @Transactional
+    public void reconcileAllResponseCounters() {
+        answerRepository.reconcileAllResponseCounts();
+        pollRepository.reconcileAllResponseCounters();
+        pollCacheInvalidator.countersReconciled(null);
+        // A tally reseeded before commit would read the old counters and skip the votes that follow
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                voteTallyService.evictAll();
+            }
+        });
+    }
+
+    @Override
+    public PollResultsDto getPollResults(String pollCode) {
+        // Definition from the cache, counts from the tally: no queries once both are warm
+        PollDefinition poll = pollDefinitionCache.get(pollCode);
+
+        // Counts come from the in-memory tally, not per-answer COUNT queries.
+        // Read the sequence first so a snapshot never claims more than it holds.
+        Long sequence = voteTallyService.getSequence(poll.getId());
+        Long totalResponses = voteTallyService.getTotalResponses(poll.getId());
 
         List<QuestionResultDto> questionResults = poll.getQuestions().stream()
                 .map(question -> {
-                    List<AnswerResultDto> answerResults = question.getAnswers() != null
-                            ? question.getAnswers().stream()
-                            .map(answer -> {
-                                Long responseCount = responseRepository.countByAnswerId(answer.getId());
-                                Double percentage = totalResponses > 0 ? (responseCount.doubleValue() / totalResponses) * 100 : 0.0;
-                                return new AnswerResultDto(answer.getId(), answer.getText(), responseCount, percentage);
-                            })
-                            .collect(Collectors.toList())
-                            : new ArrayList<>();
+                    List<PollDefinition.AnswerDefinition> answers = question.getAnswers();
+                    List<Long> counts = answers.stream()
+                            .map(answer -> voteTallyService.getAnswerCount(poll.getId(), answer.getId()))
+                            .collect(Collectors.toList());
+
+                    // Percentages are of the people who answered this question, not of all respondents
+                    long questionTotal = counts.stream().mapToLong(Long::longValue).sum();
+                    List<AnswerResultDto> answerResults = new ArrayList<>();
+                    for (int i = 0; i < answers.size(); i++) {
+                        Long responseCount = counts.get(i);
+                        Double percentage = questionTotal > 0 ? (responseCount.doubleValue() / questionTotal) * 100 : 0.0;
+                        answerResults.add(new AnswerResultDto(answers.get(i).getId(), answers.get(i).getText(),
+                                responseCount, percentage));
+                    }
 
-                    return new QuestionResultDto(question.getId(), question.getText(), answerResults);
+                    QuestionResultDto questionResult = new QuestionResultDto(question.getId(), question.getText(), answerResults);
+                    questionResult.setTotalResponses(questionTotal);
+                    return questionResult;
                 })
                 .collect(Collectors.toList());
 
-        return new PollResultsDto(poll.getId(), poll.getTitle(), poll.getChartType().getName(),
+        PollResultsDto results = new PollResultsDto(poll.getId(), poll.getTitle(), poll.getChartType().getName(),
                 totalResponses, questionResults);
+        results.setSequence(sequence);
+        return results;
+    }
+
+    private Poll buildPoll(Long adminId, CreatePollRequest request, PollStatus pollStatus, ChartType chartType) {
+        String pollCode = pollCodeGenerator.nextCode();
+        String shareLink = "http://localhost:3000/poll/" + pollCode;
+        String qrCode = "/polls/code/" + pollCode + "/qr";
+
+        Poll poll = new Poll(request.getTitle(), pollCode, shareLink, qrCode,
+                pollStatus, chartType, request.getAllowViewResults(), adminId);
+        poll.setRequiredDemographics(request.getRequiredDemographics());
+
+        // Create Questions and Answers in memory, in question order
+        List<Question> questions = new ArrayList<>();
+        if (request.getQuestions() != null && !request.getQuestions().isEmpty()) {
+            List<QuestionRequest> questionRequests = new ArrayList<>(request.getQuestions());
+            questionRequests.sort(Comparator.comparing(QuestionRequest::getQuestionOrder,
+                    Comparator.nullsLast(Comparator.naturalOrder())));
+
+            for (QuestionRequest qReq : questionRequests) {
+                Question question = new Question(qReq.getText(), qReq.getQuestionOrder(), poll);
+
+                List<Answer> answers = new ArrayList<>();
+                int answerOrder = 1;
+                if (qReq.getAnswers() != null && !qReq.getAnswers().isEmpty()) {
+                    for (String answerText : qReq.getAnswers()) {
+                        answers.add(new Answer(answerText, answerOrder, question));
+                        answerOrder++;
+                    }
+                }
+                question.setAnswers(answers);
+                questions.add(question);
+            }
+        }
+        poll.setQuestions(questions);
+
+        return poll;
     }
 
-    private String generatePollCode() {
-        return "poll" + System.currentTimeMillis();
+    /**
+     * Strong validator for GET /polls/code/{pollCode}, which carries no counts
+     * and so only changes with the definition version.
+     */
+    @Override
+    public String getPollETag(String pollCode) {
+        PollDefinition poll = pollDefinitionCache.get(pollCode);
+        return "\"p" + poll.getId() + "." + poll.getVersion() + "\"";
     }
 
-    private PollResponse mapPollToResponse(Poll poll) {
-        PollResponse response = new PollResponse();
-        response.setId(poll.getId());
-        response.setTitle(poll.getTitle());
-        response.setPollCode(poll.getPollCode());
-        response.setShareLink(poll.getShareLink());
-        response.setQrCode(poll.getQrCode());
-        response.setAllowViewResults(poll.getAllowViewResults());
-        response.setRequiredDemographics(poll.getRequiredDemographics());
+    @Override
+    public String getResultsETag(String pollCode) {
+        PollDefinition poll = pollDefinitionCache.get(pollCode);
+        return "\"r" + poll.getId() + "." + poll.getVersion() + "." + voteTallyService.getSequence(poll.getId()) + "\"";
+    }
 
-        PollStatusDto statusDto = new PollStatusDto(poll.getPollStatus().getId(),
-                poll.getPollStatus().getName(),
-                poll.getPollStatus().getDescription());
-        response.setPollStatus(statusDto);
+    private PollStatus findPollStatus(Long pollStatusId) {
+        return pollStatusRepository.findById(pollStatusId)
+                .orElseThrow(() -> new ResourceNotFoundException("Poll Status not found"));
+    }
 
-        ChartTypeDto chartTypeDto = new ChartTypeDto(poll.getChartType().getId(),
-                poll.getChartType().getName(),
-                poll.getChartType().getDescription());
-        response.setChartType(chartTypeDto);
+    private ChartType findChartType(Long chartTypeId) {
+        return chartTypeRepository.findById(chartTypeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Chart Type not found"));
+    }
+
+    private PollResponse mapPollToResponse(Poll poll) {
+        PollResponse response = mapPollHeader(poll);
 
         List<QuestionDto> questionDtos = poll.getQuestions() != null
                 ? poll.getQuestions().stream()
@@ -219,8 +357,99 @@ public class PollServiceImpl implements PollService {
                 : new ArrayList<>();
 
         response.setQuestions(questionDtos);
-        response.setTotalResponses(responseRepository.countByPollId(poll.getId()));
 
         return response;
     }
+
+    private PollResponse mapDefinitionToResponse(PollDefinition poll) {
+        PollResponse response = new PollResponse();
+        response.setId(poll.getId());
+        response.setTitle(poll.getTitle());
+        response.setPollCode(poll.getPollCode());
+        response.setShareLink(poll.getShareLink());
+        response.setQrCode(poll.getQrCode());
+        response.setAllowViewResults(poll.getAllowViewResults());
+        response.setRequiredDemographics(poll.getRequiredDemographics());
+        response.setPollStatus(poll.getPollStatus());
+        response.setChartType(poll.getChartType());
+        // No live counts: the public poll page renders once per definition version
+        // and counts are served by the results endpoints
+
+        List<QuestionDto> questionDtos = poll.getQuestions().stream()
+                .map(question -> {
+                    QuestionDto qDto = new QuestionDto();
+                    qDto.setId(question.getId());
+                    qDto.setText(question.getText());
+                    qDto.setQuestionOrder(question.getQuestionOrder());
+                    qDto.setAnswers(question.getAnswers().stream()
+                            .map(answer -> {
+                                AnswerDto aDto = new AnswerDto();
+                                aDto.setId(answer.getId());
+                                aDto.setText(answer.getText());
+                                aDto.setAnswerOrder(answer.getAnswerOrder());
+                                return aDto;
+                            })
+                            .collect(Collectors.toList()));
+                    return qDto;
+                })
+                .collect(Collectors.toList());
+        response.setQuestions(questionDtos);
+
+        return response;
+    }
+
+    // Everything except the question tree, which summary listings leave out
+    private PollResponse mapPollHeader(Poll poll) {
+        PollResponse response = new PollResponse();
+        response.setId(poll.getId());
+        response.setTitle(poll.getTitle());
+        response.setPollCode(poll.getPollCode());
+        response.setShareLink(poll.getShareLink());
+        response.setQrCode(poll.getQrCode());
+        response.setAllowViewResults(poll.getAllowViewResults());
+        response.setRequiredDemographics(poll.getRequiredDemographics());
+
+        PollStatusDto statusDto = new PollStatusDto(poll.getPollStatus().getId(),
+                poll.getPollStatus().getName(),
+                poll.getPollStatus().getDescription());
+        response.setPollStatus(statusDto);
+
+        ChartTypeDto chartTypeDto = new ChartTypeDto(poll.getChartType().getId(),
+                poll.getChartType().getName(),
+                poll.getChartType().getDescription());
+        response.setChartType(chartTypeDto);
+        // Stored counter, maintained on submission - counts respondents, not answer rows
+        response.setTotalResponses(poll.getRespondentCount());
+
+        return response;
+    }
+
+    /**
+     * Opaque keyset cursor: the (createdAt, id) of the last poll on a page.
+     */
+    private static final class PollCursor {
+        private final LocalDateTime createdAt;
+        private final Long id;
+
+        private PollCursor(LocalDateTime createdAt, Long id) {
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+
+        private static String encode(Poll poll) {
+            String raw = poll.getCreatedAt() + "|" + poll.getId();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static PollCursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = raw.lastIndexOf('|');
+                return new PollCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                        Long.parseLong(raw.substring(separator + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,275 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.DTO.VoteEvent;
+import New.Poll.App.Evercare.Polling.System.Service.PollCacheInvalidator;
+import New.Poll.App.Evercare.Polling.System.Service.PollDefinitionCache;
+import New.Poll.App.Evercare.Polling.System.Service.ResultBroadcastService;
+import New.Poll.App.Evercare.Polling.System.Service.VoteEventRelay;
+import New.Poll.App.Evercare.Polling.System.Service.VoteTallyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Multi-node relay over Postgres LISTEN/NOTIFY, used for
+ * app.websocket.broker=postgres and stomp-relay.
+ *
+ * Votes are announced with pg_notify inside the voting transaction, so
+ * Postgres delivers them exactly once to every listening node, in commit
+ * order, and only if the vote commits. Each node applies its own votes after
+ * commit and everyone else's from a dedicated listener connection, so all
+ * tallies converge on the same counts and sequence numbers.
+ *
+ * With postgres every node broadcasts to the subscribers of its own in-memory
+ * broker. With stomp-relay the external broker already fans out to every
+ * subscriber, so only the node holding an advisory lock broadcasts; another
+ * takes over when its listener connection goes away.
+ *
+ * Cache invalidations (PollCacheInvalidator) share the channel as INV
+ * payloads. A listener that reconnects may have missed notifications of both
+ * kinds, so it drops its tallies (they reseed from the stored counters) and
+ * cached definitions, and re-broadcasts.
+ */
+@Service
+@ConditionalOnExpression("'${app.websocket.broker:simple}' != 'simple'")
+public class PostgresVoteEventRelay implements VoteEventRelay, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresVoteEventRelay.class);
+
+    static final String CHANNEL = "poll_votes";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private VoteTallyService voteTallyService;
+
+    @Autowired
+    private ResultBroadcastService resultBroadcastService;
+
+    @Autowired
+    private PollCacheInvalidator pollCacheInvalidator;
+
+    @Autowired
+    private PollDefinitionCache pollDefinitionCache;
+
+    @Value("${app.websocket.broker:simple}")
+    private String brokerMode;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    @Value("${app.websocket.relay.poll-interval-ms:500}")
+    private int pollIntervalMs;
+
+    @Value("${app.websocket.relay.reconnect-delay-ms:2000}")
+    private long reconnectDelayMs;
+
+    @Value("${app.websocket.relay.broadcaster-lock-key:7240917}")
+    private long broadcasterLockKey;
+
+    // Tells this node's own notifications apart; Postgres also delivers them to the sender
+    private final String origin = UUID.randomUUID().toString().substring(0, 8);
+    // Postgres folds identical payloads within one transaction, so every event gets a number
+    private final AtomicLong eventSequence = new AtomicLong();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+
+    private volatile boolean running;
+    private volatile boolean broadcaster;
+    private Thread listener;
+
+    @Override
+    public void publish(List<VoteEvent> events) {
+        String[] payloads = new String[events.size()];
+        for (int i = 0; i < payloads.length; i++) {
+            VoteEvent event = events.get(i);
+            payloads[i] = origin + "|" + eventSequence.incrementAndGet() + "|" + event.getPollId() + "|"
+                    + event.getPollCode() + "|" + event.getSequence() + "|"
+                    + event.getAnswerIds().stream().map(String::valueOf).collect(Collectors.joining(","));
+        }
+
+        // Runs on the transaction's connection: one round trip, delivered on commit
+        jdbcTemplate.query("SELECT pg_notify(?, payload) FROM unnest(?::text[]) AS payload",
+                ps -> {
+                    ps.setString(1, CHANNEL);
+                    ps.setArray(2, ps.getConnection().createArrayOf("text", payloads));
+                },
+                (ResultSet rs) -> { });
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                events.forEach(PostgresVoteEventRelay.this::apply);
+                published.add(events.size());
+            }
+        });
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("mode", brokerMode);
+        stats.put("origin", origin);
+        stats.put("listening", running && listener != null);
+        stats.put("broadcaster", broadcaster);
+        stats.put("published", published.sum());
+        stats.put("received", received.sum());
+        stats.put("invalidations", invalidations.sum());
+        stats.put("reconnects", reconnects.sum());
+        return stats;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        // With an external broker nobody broadcasts until the lock is won
+        broadcaster = !isElected();
+        resultBroadcastService.setBroadcasting(broadcaster);
+        listener = new Thread(this::listenLoop, "vote-relay");
+        listener.setDaemon(true);
+        listener.start();
+        logger.info("Postgres vote relay started (mode={}, origin={})", brokerMode, origin);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+            listener = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private boolean isElected() {
+        return "stomp-relay".equalsIgnoreCase(brokerMode);
+    }
+
+    private void listenLoop() {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (connectedBefore) {
+                    resync();
+                }
+                connectedBefore = true;
+
+                Object pgConnection = connection.unwrap(Class.forName("org.postgresql.PGConnection"));
+                Method getNotifications = pgConnection.getClass().getMethod("getNotifications", int.class);
+                while (running) {
+                    if (isElected() && !broadcaster && tryBroadcasterLock(connection)) {
+                        logger.info("This node is now the results broadcaster");
+                        setBroadcaster(true);
+                    }
+                    Object[] notifications = (Object[]) getNotifications.invoke(pgConnection, pollIntervalMs);
+                    if (notifications != null) {
+                        for (Object notification : notifications) {
+                            String payload = (String) notification.getClass().getMethod("getParameter").invoke(notification);
+                            onNotification(payload);
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    break;
+                }
+                // The advisory lock went with the connection
+                setBroadcaster(!isElected());
+                reconnects.increment();
+                logger.warn("Vote relay connection lost, reconnecting in {} ms: {}", reconnectDelayMs, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelayMs);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    private boolean tryBroadcasterLock(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT pg_try_advisory_lock(" + broadcasterLockKey + ")")) {
+            return rs.next() && rs.getBoolean(1);
+        }
+    }
+
+    private void setBroadcaster(boolean broadcaster) {
+        if (this.broadcaster != broadcaster) {
+            this.broadcaster = broadcaster;
+            resultBroadcastService.setBroadcasting(broadcaster);
+        }
+    }
+
+    private void onNotification(String payload) {
+        if (payload.startsWith(PollCacheInvalidatorImpl.PREFIX)) {
+            invalidations.increment();
+            pollCacheInvalidator.applyRemote(payload);
+            return;
+        }
+        String[] parts = payload.split("\\|", -1);
+        if (parts.length != 6 || origin.equals(parts[0])) {
+            return;
+        }
+        List<Long> answerIds = new ArrayList<>();
+        for (String answerId : parts[5].split(",")) {
+            if (!answerId.isEmpty()) {
+                answerIds.add(Long.valueOf(answerId));
+            }
+        }
+        received.increment();
+        apply(new VoteEvent(Long.valueOf(parts[2]), parts[3], answerIds, Long.parseLong(parts[4])));
+    }
+
+    private void apply(VoteEvent event) {
+        voteTallyService.recordVotes(event.getPollId(), event.getAnswerIds(), event.getSequence());
+        resultBroadcastService.markDirty(event.getPollCode());
+    }
+
+    // Notifications sent while disconnected are gone; reseed from the stored counters instead
+    private void resync() {
+        voteTallyService.evictAll();
+        pollDefinitionCache.invalidateAll();
+        resultBroadcastService.markAllDirty();
+        logger.info("Vote relay reconnected, tallies and poll definitions will reload from the database");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,441 @@
+/*
+ * Adapted from the QR Code generator library (Java) by Project Nayuki
+ * https://www.nayuki.io/page/qr-code-generator-library
+ *
+ * Copyright (c) Project Nayuki. (MIT License)
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of
+ * this software and associated documentation files (the "Software"), to deal in
+ * the Software without restriction, including without limitation the rights to
+ * use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of
+ * the Software, and to permit persons to whom the Software is furnished to do so,
+ * subject to the following conditions:
+ * - The above copyright notice and this permission notice shall be included in
+ *   all copies or substantial portions of the Software.
+ * - The Software is provided "as is", without warranty of any kind, express or
+ *   implied, including but not limited to the warranties of merchantability,
+ *   fitness for a particular purpose and noninfringement. In no event shall the
+ *   authors or copyright holders be liable for any claim, damages or other
+ *   liability, whether in an action of contract, tort or otherwise, arising from,
+ *   out of or in connection with the Software or the use or other dealings in the
+ *   Software.
+ */
+
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Minimal QR code encoder (ISO/IEC 18004): byte mode, error correction level
+ * M, versions 1 to 40, automatic mask selection. Produces the module matrix
+ * only; QrCodeServiceImpl turns it into PNG or SVG.
+ *
+ * Cut down from Project Nayuki's generator (see the notice above) to the one
+ * mode and level used here. Verified against an independent implementation
+ * (Kazuhiko Arase's qrcode generator): for share links and for payloads
+ * filling versions 1, 3, 13 and 31, forcing the same version and mask gives
+ * identical matrices, module for module. Only the mask each picks can
+ * differ, and any mask is valid for a reader.
+ */
+final class QrCodeEncoder {
+
+    // Indexed by version; level M only
+    private static final int[] ECC_CODEWORDS_PER_BLOCK = {-1,
+            10, 16, 26, 18, 24, 16, 18, 22, 22, 26, 30, 22, 22, 24, 24, 28, 28, 26, 26, 26,
+            26, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28, 28};
+    private static final int[] NUM_ERROR_CORRECTION_BLOCKS = {-1,
+            1, 1, 1, 2, 2, 4, 4, 4, 5, 5, 5, 8, 9, 9, 10, 10, 11, 13, 14, 16,
+            17, 17, 18, 20, 21, 23, 25, 26, 28, 29, 31, 33, 35, 37, 38, 40, 43, 45, 47, 49};
+    private static final int FORMAT_BITS_LEVEL_M = 0;
+
+    private final int version;
+    private final int size;
+    private final boolean[][] modules;
+    private final boolean[][] isFunction;
+
+    private QrCodeEncoder(int version) {
+        this.version = version;
+        this.size = version * 4 + 17;
+        this.modules = new boolean[size][size];
+        this.isFunction = new boolean[size][size];
+    }
+
+    /**
+     * Encodes the text as UTF-8 and returns the matrix, indexed [y][x], with
+     * true for dark modules. The quiet zone is not included.
+     */
+    static boolean[][] encode(String text) {
+        byte[] data = text.getBytes(StandardCharsets.UTF_8);
+        int version = 1;
+        while (true) {
+            int capacityBits = numDataCodewords(version) * 8;
+            int usedBits = 4 + (version <= 9 ? 8 : 16) + data.length * 8;
+            if (usedBits <= capacityBits) {
+                break;
+            }
+            if (++version > 40) {
+                throw new IllegalArgumentException("Text too long for a QR code");
+            }
+        }
+
+        QrCodeEncoder qr = new QrCodeEncoder(version);
+        qr.drawFunctionPatterns();
+        qr.drawCodewords(qr.addEccAndInterleave(qr.buildDataCodewords(data)));
+
+        // Pick the mask with the lowest penalty, then apply it for good
+        int bestMask = 0;
+        int minPenalty = Integer.MAX_VALUE;
+        for (int mask = 0; mask < 8; mask++) {
+            qr.applyMask(mask);
+            qr.drawFormatBits(mask);
+            int penalty = qr.penaltyScore();
+            if (penalty < minPenalty) {
+                bestMask = mask;
+                minPenalty = penalty;
+            }
+            qr.applyMask(mask); // XOR undoes it
+        }
+        qr.applyMask(bestMask);
+        qr.drawFormatBits(bestMask);
+        return qr.modules;
+    }
+
+    private byte[] buildDataCodewords(byte[] data) {
+        int capacity = numDataCodewords(version);
+        BitBuffer bits = new BitBuffer(capacity * 8);
+        bits.append(0x4, 4); // byte mode
+        bits.append(data.length, version <= 9 ? 8 : 16);
+        for (byte b : data) {
+            bits.append(b & 0xFF, 8);
+        }
+        bits.append(0, Math.min(4, capacity * 8 - bits.length));
+        bits.append(0, (8 - bits.length % 8) % 8);
+        for (int pad = 0xEC; bits.length < capacity * 8; pad ^= 0xEC ^ 0x11) {
+            bits.append(pad, 8);
+        }
+        return bits.bytes;
+    }
+
+    private byte[] addEccAndInterleave(byte[] data) {
+        int numBlocks = NUM_ERROR_CORRECTION_BLOCKS[version];
+        int blockEccLength = ECC_CODEWORDS_PER_BLOCK[version];
+        int rawCodewords = numRawDataModules(version) / 8;
+        int numShortBlocks = numBlocks - rawCodewords % numBlocks;
+        int shortBlockLength = rawCodewords / numBlocks;
+
+        byte[][] blocks = new byte[numBlocks][];
+        byte[] divisor = reedSolomonDivisor(blockEccLength);
+        for (int i = 0, k = 0; i < numBlocks; i++) {
+            int dataLength = shortBlockLength - blockEccLength + (i < numShortBlocks ? 0 : 1);
+            byte[] blockData = Arrays.copyOfRange(data, k, k + dataLength);
+            k += dataLength;
+            byte[] block = Arrays.copyOf(blockData, shortBlockLength + 1);
+            byte[] ecc = reedSolomonRemainder(blockData, divisor);
+            System.arraycopy(ecc, 0, block, block.length - blockEccLength, ecc.length);
+            blocks[i] = block;
+        }
+
+        // Short blocks have a gap before their ECC, skipped while interleaving
+        byte[] result = new byte[rawCodewords];
+        for (int i = 0, k = 0; i < blocks[0].length; i++) {
+            for (int j = 0; j < blocks.length; j++) {
+                if (i != shortBlockLength - blockEccLength || j >= numShortBlocks) {
+                    result[k++] = blocks[j][i];
+                }
+            }
+        }
+        return result;
+    }
+
+    private void drawFunctionPatterns() {
+        for (int i = 0; i < size; i++) {
+            setFunctionModule(6, i, i % 2 == 0);
+            setFunctionModule(i, 6, i % 2 == 0);
+        }
+
+        drawFinderPattern(3, 3);
+        drawFinderPattern(size - 4, 3);
+        drawFinderPattern(3, size - 4);
+
+        int[] positions = alignmentPatternPositions();
+        int count = positions.length;
+        for (int i = 0; i < count; i++) {
+            for (int j = 0; j < count; j++) {
+                // The three corners with finder patterns have no alignment pattern
+                if (!(i == 0 && j == 0 || i == 0 && j == count - 1 || i == count - 1 && j == 0)) {
+                    drawAlignmentPattern(positions[i], positions[j]);
+                }
+            }
+        }
+
+        drawFormatBits(0); // reserves the area, overwritten once the mask is known
+        drawVersion();
+    }
+
+    private void drawFormatBits(int mask) {
+        int data = FORMAT_BITS_LEVEL_M << 3 | mask;
+        int remainder = data;
+        for (int i = 0; i < 10; i++) {
+            remainder = (remainder << 1) ^ ((remainder >>> 9) * 0x537);
+        }
+        int bits = (data << 10 | remainder) ^ 0x5412;
+
+        for (int i = 0; i <= 5; i++) {
+            setFunctionModule(8, i, bit(bits, i));
+        }
+        setFunctionModule(8, 7, bit(bits, 6));
+        setFunctionModule(8, 8, bit(bits, 7));
+        setFunctionModule(7, 8, bit(bits, 8));
+        for (int i = 9; i < 15; i++) {
+            setFunctionModule(14 - i, 8, bit(bits, i));
+        }
+
+        for (int i = 0; i < 8; i++) {
+            setFunctionModule(size - 1 - i, 8, bit(bits, i));
+        }
+        for (int i = 8; i < 15; i++) {
+            setFunctionModule(8, size - 15 + i, bit(bits, i));
+        }
+        setFunctionModule(8, size - 8, true); // always dark
+    }
+
+    private void drawVersion() {
+        if (version < 7) {
+            return;
+        }
+        int remainder = version;
+        for (int i = 0; i < 12; i++) {
+            remainder = (remainder << 1) ^ ((remainder >>> 11) * 0x1F25);
+        }
+        int bits = version << 12 | remainder;
+        for (int i = 0; i < 18; i++) {
+            boolean dark = bit(bits, i);
+            int a = size - 11 + i % 3;
+            int b = i / 3;
+            setFunctionModule(a, b, dark);
+            setFunctionModule(b, a, dark);
+        }
+    }
+
+    private void drawFinderPattern(int x, int y) {
+        for (int dy = -4; dy <= 4; dy++) {
+            for (int dx = -4; dx <= 4; dx++) {
+                int distance = Math.max(Math.abs(dx), Math.abs(dy));
+                int xx = x + dx;
+                int yy = y + dy;
+                if (0 <= xx && xx < size && 0 <= yy && yy < size) {
+                    setFunctionModule(xx, yy, distance != 2 && distance != 4);
+                }
+            }
+        }
+    }
+
+    private void drawAlignmentPattern(int x, int y) {
+        for (int dy = -2; dy <= 2; dy++) {
+            for (int dx = -2; dx <= 2; dx++) {
+                setFunctionModule(x + dx, y + dy, Math.max(Math.abs(dx), Math.abs(dy)) != 1);
+            }
+        }
+    }
+
+    private void setFunctionModule(int x, int y, boolean dark) {
+        modules[y][x] = dark;
+        isFunction[y][x] = true;
+    }
+
+    // Zigzags up and down two-module columns from the right, skipping the vertical timing column
+    private void drawCodewords(byte[] data) {
+        int i = 0;
+        for (int right = size - 1; right >= 1; right -= 2) {
+            if (right == 6) {
+                right = 5;
+            }
+            for (int vertical = 0; vertical < size; vertical++) {
+                for (int j = 0; j < 2; j++) {
+                    int x = right - j;
+                    boolean upward = ((right + 1) & 2) == 0;
+                    int y = upward ? size - 1 - vertical : vertical;
+                    if (!isFunction[y][x] && i < data.length * 8) {
+                        modules[y][x] = bit(data[i >>> 3], 7 - (i & 7));
+                        i++;
+                    }
+                }
+            }
+        }
+    }
+
+    private void applyMask(int mask) {
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                boolean invert;
+                switch (mask) {
+                    case 0: invert = (x + y) % 2 == 0; break;
+                    case 1: invert = y % 2 == 0; break;
+                    case 2: invert = x % 3 == 0; break;
+                    case 3: invert = (x + y) % 3 == 0; break;
+                    case 4: invert = (x / 3 + y / 2) % 2 == 0; break;
+                    case 5: invert = x * y % 2 + x * y % 3 == 0; break;
+                    case 6: invert = (x * y % 2 + x * y % 3) % 2 == 0; break;
+                    default: invert = ((x + y) % 2 + x * y % 3) % 2 == 0; break;
+                }
+                modules[y][x] ^= invert & !isFunction[y][x];
+            }
+        }
+    }
+
+    private int penaltyScore() {
+        int penalty = 0;
+        int dark = 0;
+        for (int i = 0; i < size; i++) {
+            penalty += linePenalty(i, true) + linePenalty(i, false);
+        }
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                if (modules[y][x]) {
+                    dark++;
+                }
+                if (x < size - 1 && y < size - 1) {
+                    boolean color = modules[y][x];
+                    if (color == modules[y][x + 1] && color == modules[y + 1][x] && color == modules[y + 1][x + 1]) {
+                        penalty += 3;
+                    }
+                }
+            }
+        }
+        int total = size * size;
+        int k = (Math.abs(dark * 20 - total * 10) + total - 1) / total - 1;
+        return penalty + Math.max(k, 0) * 10;
+    }
+
+    // Runs of five or more same-coloured modules, and finder-like 1:1:3:1:1 patterns next to four light modules
+    private int linePenalty(int index, boolean row) {
+        int penalty = 0;
+        int run = 0;
+        boolean runColor = false;
+        for (int i = 0; i < size; i++) {
+            boolean color = row ? modules[index][i] : modules[i][index];
+            if (i > 0 && color == runColor) {
+                run++;
+                if (run == 5) {
+                    penalty += 3;
+                } else if (run > 5) {
+                    penalty++;
+                }
+            } else {
+                runColor = color;
+                run = 1;
+            }
+        }
+        for (int i = -4; i < size; i++) {
+            if (matches(index, row, i, "00001011101") || matches(index, row, i, "10111010000")) {
+                penalty += 40;
+            }
+        }
+        return penalty;
+    }
+
+    private boolean matches(int index, boolean row, int start, String pattern) {
+        for (int j = 0; j < pattern.length(); j++) {
+            int i = start + j;
+            // Outside the symbol counts as light
+            boolean color = i >= 0 && i < size && (row ? modules[index][i] : modules[i][index]);
+            if (color != (pattern.charAt(j) == '1')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int[] alignmentPatternPositions() {
+        if (version == 1) {
+            return new int[0];
+        }
+        int count = version / 7 + 2;
+        int step = (version * 8 + count * 3 + 5) / (count * 4 - 4) * 2;
+        int[] result = new int[count];
+        result[0] = 6;
+        for (int i = count - 1, position = size - 7; i >= 1; i--, position -= step) {
+            result[i] = position;
+        }
+        return result;
+    }
+
+    private static int numRawDataModules(int version) {
+        int result = (16 * version + 128) * version + 64;
+        if (version >= 2) {
+            int count = version / 7 + 2;
+            result -= (25 * count - 10) * count - 55;
+            if (version >= 7) {
+                result -= 36;
+            }
+        }
+        return result;
+    }
+
+    private static int numDataCodewords(int version) {
+        return numRawDataModules(version) / 8
+                - ECC_CODEWORDS_PER_BLOCK[version] * NUM_ERROR_CORRECTION_BLOCKS[version];
+    }
+
+    static byte[] reedSolomonDivisor(int degree) {
+        byte[] result = new byte[degree];
+        result[degree - 1] = 1;
+        int root = 1;
+        for (int i = 0; i < degree; i++) {
+            for (int j = 0; j < result.length; j++) {
+                result[j] = (byte) gfMultiply(result[j] & 0xFF, root);
+                if (j + 1 < result.length) {
+                    result[j] ^= result[j + 1];
+                }
+            }
+            root = gfMultiply(root, 0x02);
+        }
+        return result;
+    }
+
+    static byte[] reedSolomonRemainder(byte[] data, byte[] divisor) {
+        byte[] result = new byte[divisor.length];
+        for (byte b : data) {
+            int factor = (b ^ result[0]) & 0xFF;
+            System.arraycopy(result, 1, result, 0, result.length - 1);
+            result[result.length - 1] = 0;
+            for (int i = 0; i < result.length; i++) {
+                result[i] ^= (byte) gfMultiply(divisor[i] & 0xFF, factor);
+            }
+        }
+        return result;
+    }
+
+    // GF(2^8) with the QR reducing polynomial x^8 + x^4 + x^3 + x^2 + 1
+    private static int gfMultiply(int x, int y) {
+        int z = 0;
+        for (int i = 7; i >= 0; i--) {
+            z = (z << 1) ^ ((z >>> 7) * 0x11D);
+            z ^= ((y >>> i) & 1) * x;
+        }
+        return z;
+    }
+
+    private static boolean bit(int value, int index) {
+        return ((value >>> index) & 1) != 0;
+    }
+
+    private static final class BitBuffer {
+        private final byte[] bytes;
+        private int length;
+
+        private BitBuffer(int capacityBits) {
+            this.bytes = new byte[capacityBits / 8];
+        }
+
+        private void append(int value, int count) {
+            for (int i = count - 1; i >= 0; i--) {
+                if (((value >>> i) & 1) != 0) {
+                    bytes[length >>> 3] |= (byte) (0x80 >>> (length & 7));
+                }
+                length++;
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,187 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.DTO.PollDefinition;
+import New.Poll.App.Evercare.Polling.System.Exception.BadRequestException;
+import New.Poll.App.Evercare.Polling.System.Service.PollDefinitionCache;
+import New.Poll.App.Evercare.Polling.System.Service.QrCodeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Renders the QR code of a poll's share link as PNG or SVG. A poll's share
+ * link never changes, so each image is rendered once and then served from
+ * memory, or from app.qr.directory after a restart.
+ */
+@Service
+public class QrCodeServiceImpl implements QrCodeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QrCodeServiceImpl.class);
+
+    private static final int QUIET_ZONE = 4;
+    private static final int DARK = 0xFF000000;
+    private static final int LIGHT = 0xFFFFFFFF;
+
+    @Autowired
+    private PollDefinitionCache pollDefinitionCache;
+
+    @Value("${app.qr.directory:data/qr}")
+    private String directory;
+
+    @Value("${app.qr.max-entries:500}")
+    private int maxEntries;
+
+    @Value("${app.qr.module-pixels:8}")
+    private int modulePixels;
+
+    // Access-ordered LRU keyed by "pollCode.format"
+    private final Map<String, byte[]> images = new LinkedHashMap<>(64, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder renders = new LongAdder();
+
+    @Override
+    public byte[] getQrCode(String pollCode, String format) {
+        if (!"png".equals(format) && !"svg".equals(format)) {
+            throw new BadRequestException("Unsupported QR code format: " + format);
+        }
+        // Also turns codes of unknown or deleted polls into a 404
+        PollDefinition poll = pollDefinitionCache.get(pollCode);
+
+        String key = poll.getPollCode() + "." + format;
+        synchronized (images) {
+            byte[] image = images.get(key);
+            if (image != null) {
+                hits.increment();
+                return image;
+            }
+        }
+
+        Path file = Paths.get(directory, key);
+        byte[] image = readFile(file);
+        if (image != null) {
+            diskHits.increment();
+        } else {
+            boolean[][] modules = QrCodeEncoder.encode(poll.getShareLink());
+            image = "png".equals(format) ? toPng(modules) : toSvg(modules);
+            renders.increment();
+            writeFile(file, image);
+        }
+
+        synchronized (images) {
+            images.put(key, image);
+            if (images.size() > maxEntries) {
+                images.remove(images.keySet().iterator().next());
+            }
+        }
+        return image;
+    }
+
+    @Override
+    public void evict(String pollCode) {
+        for (String format : new String[] {"png", "svg"}) {
+            String key = pollCode + "." + format;
+            synchronized (images) {
+                images.remove(key);
+            }
+            try {
+                Files.deleteIfExists(Paths.get(directory, key));
+            } catch (IOException e) {
+                logger.warn("Failed to delete QR code {}: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (images) {
+            stats.put("entries", images.size());
+        }
+        stats.put("maxEntries", maxEntries);
+        stats.put("hits", hits.sum());
+        stats.put("diskHits", diskHits.sum());
+        stats.put("renders", renders.sum());
+        return stats;
+    }
+
+    private byte[] toPng(boolean[][] modules) {
+        int dimension = (modules.length + QUIET_ZONE * 2) * modulePixels;
+        BufferedImage image = new BufferedImage(dimension, dimension, BufferedImage.TYPE_BYTE_BINARY);
+        for (int y = 0; y < dimension; y++) {
+            int moduleY = y / modulePixels - QUIET_ZONE;
+            for (int x = 0; x < dimension; x++) {
+                int moduleX = x / modulePixels - QUIET_ZONE;
+                boolean dark = moduleY >= 0 && moduleY < modules.length
+                        && moduleX >= 0 && moduleX < modules.length && modules[moduleY][moduleX];
+                image.setRGB(x, y, dark ? DARK : LIGHT);
+            }
+        }
+        try {
+            ByteArrayOutputStream png = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", png);
+            return png.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // One path for all dark modules, in module units; the viewBox includes the quiet zone
+    private byte[] toSvg(boolean[][] modules) {
+        int dimension = modules.length + QUIET_ZONE * 2;
+        StringBuilder svg = new StringBuilder(modules.length * modules.length * 6);
+        svg.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<svg xmlns=\"http://www.w3.org/2000/svg\" version=\"1.1\" viewBox=\"0 0 ")
+                .append(dimension).append(' ').append(dimension)
+                .append("\" shape-rendering=\"crispEdges\">\n")
+                .append("<rect width=\"100%\" height=\"100%\" fill=\"#FFFFFF\"/>\n")
+                .append("<path fill=\"#000000\" d=\"");
+        for (int y = 0; y < modules.length; y++) {
+            for (int x = 0; x < modules.length; x++) {
+                if (modules[y][x]) {
+                    svg.append('M').append(x + QUIET_ZONE).append(',').append(y + QUIET_ZONE).append("h1v1h-1z");
+                }
+            }
+        }
+        svg.append("\"/>\n</svg>\n");
+        return svg.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] readFile(Path file) {
+        try {
+            return Files.isRegularFile(file) ? Files.readAllBytes(file) : null;
+        } catch (IOException e) {
+            logger.warn("Failed to read QR code {}, rendering it again: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    // The disk copy is only an optimisation, so failing to write it is not an error
+    private void writeFile(Path file, byte[] image) {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(tmp, image);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Failed to store QR code {}: {}", file, e.getMessage());
+        }
+    }
+}
\ No newline at end of file
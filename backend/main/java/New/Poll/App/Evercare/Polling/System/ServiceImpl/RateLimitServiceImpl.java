@@ -0,0 +1,124 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.Service.RateLimitService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Token buckets for vote submission, one per client (voter token, or address
+ * without one) and one per poll code. A client is limited so a single script cannot hog the
+ * connection pool; a poll is limited so one hot poll cannot starve the rest.
+ * New voter tokens are limited per client address too, since each token is
+ * one more vote per poll.
+ * Buckets live in memory and are dropped once they have been full (unused)
+ * for app.rate-limit.idle-seconds.
+ */
+@Service
+public class RateLimitServiceImpl implements RateLimitService {
+
+    private final long clientInterval;
+    private final long clientCapacity;
+    private final long pollInterval;
+    private final long pollCapacity;
+    private final long tokenInterval;
+    private final long tokenCapacity;
+    private final long idleNanos;
+
+    private final Map<String, TokenBucket> clientBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> pollBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> tokenBuckets = new ConcurrentHashMap<>();
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejectedByClient = new LongAdder();
+    private final LongAdder rejectedByPoll = new LongAdder();
+    private final LongAdder rejectedTokenIssues = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    public RateLimitServiceImpl(@Value("${app.rate-limit.client.per-second:1}") double clientPerSecond,
+                                @Value("${app.rate-limit.client.burst:10}") int clientBurst,
+                                @Value("${app.rate-limit.poll.per-second:500}") double pollPerSecond,
+                                @Value("${app.rate-limit.poll.burst:1000}") int pollBurst,
+                                @Value("${app.rate-limit.voter-token.per-minute:30}") double tokensPerMinute,
+                                @Value("${app.rate-limit.voter-token.burst:200}") int tokenBurst,
+                                @Value("${app.rate-limit.idle-seconds:300}") long idleSeconds) {
+        this.clientInterval = (long) (TimeUnit.SECONDS.toNanos(1) / clientPerSecond);
+        this.clientCapacity = clientInterval * clientBurst;
+        this.pollInterval = (long) (TimeUnit.SECONDS.toNanos(1) / pollPerSecond);
+        this.pollCapacity = pollInterval * pollBurst;
+        this.tokenInterval = (long) (TimeUnit.MINUTES.toNanos(1) / tokensPerMinute);
+        this.tokenCapacity = tokenInterval * tokenBurst;
+        this.idleNanos = TimeUnit.SECONDS.toNanos(idleSeconds);
+    }
+
+    @Override
+    public long tryAcquire(String clientKey, String pollCode) {
+        long now = System.nanoTime();
+
+        long wait = clientBuckets.computeIfAbsent(clientKey, key -> new TokenBucket(now))
+                .tryTake(now, clientInterval, clientCapacity);
+        if (wait > 0) {
+            rejectedByClient.increment();
+            return toRetryAfterSeconds(wait);
+        }
+
+        if (pollCode != null) {
+            wait = pollBuckets.computeIfAbsent(pollCode, key -> new TokenBucket(now))
+                    .tryTake(now, pollInterval, pollCapacity);
+            if (wait > 0) {
+                rejectedByPoll.increment();
+                return toRetryAfterSeconds(wait);
+            }
+        }
+
+        allowed.increment();
+        return 0;
+    }
+
+    @Override
+    public long tryIssueVoterToken(String clientAddress) {
+        long now = System.nanoTime();
+        long wait = tokenBuckets.computeIfAbsent(clientAddress, key -> new TokenBucket(now))
+                .tryTake(now, tokenInterval, tokenCapacity);
+        if (wait > 0) {
+            rejectedTokenIssues.increment();
+            return toRetryAfterSeconds(wait);
+        }
+        return 0;
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        // A bucket removed while in use just lets that one request through a fresh bucket
+        int before = clientBuckets.size() + pollBuckets.size() + tokenBuckets.size();
+        clientBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+        pollBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+        tokenBuckets.values().removeIf(bucket -> bucket.isIdle(now, idleNanos));
+        evicted.add(before - clientBuckets.size() - pollBuckets.size() - tokenBuckets.size());
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("clientBuckets", clientBuckets.size());
+        stats.put("pollBuckets", pollBuckets.size());
+        stats.put("voterTokenBuckets", tokenBuckets.size());
+        stats.put("allowed", allowed.sum());
+        stats.put("rejectedByClient", rejectedByClient.sum());
+        stats.put("rejectedByPoll", rejectedByPoll.sum());
+        stats.put("rejectedVoterTokens", rejectedTokenIssues.sum());
+        stats.put("evictedBuckets", evicted.sum());
+        return stats;
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+}
\ No newline at end of file
@@ -2,26 +2,31 @@ package New.Poll.App.Evercare.Polling.System.ServiceImpl;
 
 import New.Poll.App.Evercare.Polling.System.Model.*;
 import New.Poll.App.Evercare.Polling.System.Repository.*;
+import New.Poll.App.Evercare.Polling.System.Service.PollDefinitionCache;
 import New.Poll.App.Evercare.Polling.System.Service.ResponseService;
 import New.Poll.App.Evercare.Polling.System.Service.PollService;
 import New.Poll.App.Evercare.Polling.System.DTO.*;
+import New.Poll.App.Evercare.Polling.System.Exception.BadRequestException;
+import New.Poll.App.Evercare.Polling.System.Exception.ConflictException;
 import New.Poll.App.Evercare.Polling.System.Exception.ResourceNotFoundException;
 import New.Poll.App.Evercare.Polling.System.Service.ValidationService;
-import New.Poll.App.Evercare.Polling.System.Service.WebSocketService;
+import New.Poll.App.Evercare.Polling.System.Service.VoteDedupService;
+import New.Poll.App.Evercare.Polling.System.Service.VoteEventRelay;
+import New.Poll.App.Evercare.Polling.System.Service.VoteIngestionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Isolation;
 
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 public class ResponseServiceImpl implements ResponseService {
 
     @Autowired
-    private ResponseRepository responseRepository;
+    private SubmissionRepository submissionRepository;
 
     @Autowired
     private PollRepository pollRepository;
@@ -35,69 +40,102 @@ public class ResponseServiceImpl implements ResponseService {
     @Autowired
     private PollService pollService;
 
+    @Autowired
+    private PollDefinitionCache pollDefinitionCache;
+
     @Autowired
     private ValidationService validationService;
 
     @Autowired
-    private WebSocketService webSocketService;
+    private VoteEventRelay voteEventRelay;
+
+    @Autowired
+    private VoteIngestionService voteIngestionService;
+
+    @Autowired
+    private VoteDedupService voteDedupService;
 
     @Override
     @Transactional(isolation = Isolation.READ_COMMITTED)
-    public void submitResponse(SubmitResponseRequest request) {
-        Poll poll = pollRepository.findByPollCode(request.getPollCode())
-                .orElseThrow(() -> new ResourceNotFoundException("Poll not found"));
+    public void submitResponse(SubmitResponseRequest request, String voterFingerprint) {
+        // Validated against the cached definition; entities are only referenced by id
+        PollDefinition poll = pollDefinitionCache.get(request.getPollCode());
 
-        validationService.validateDemographics(request, poll);
+        if (poll.getArchivedAt() != null || "COMPLETED".equals(poll.getPollStatus().getName())) {
+            throw new BadRequestException("This poll is closed");
+        }
 
-        // Batch fetch all questions and answers to avoid N+1 queries
-        List<Long> questionIds = request.getAnswers().stream()
-                .map(ResponseAnswer::getQuestionId)
-                .collect(Collectors.toList());
+        validationService.validateDemographics(request, poll);
 
         List<Long> answerIds = request.getAnswers().stream()
                 .map(ResponseAnswer::getAnswerId)
                 .collect(Collectors.toList());
 
-        Map<Long, Question> questionsMap = questionRepository.findAllById(questionIds)
-                .stream()
-                .collect(Collectors.toMap(Question::getId, q -> q));
-
-        Map<Long, Answer> answersMap = answerRepository.findAllById(answerIds)
-                .stream()
-                .collect(Collectors.toMap(Answer::getId, a -> a));
-
-        // Batch create responses
-        List<Response> responses = request.getAnswers().stream()
-                .map(responseAnswer -> {
-                    Question question = questionsMap.get(responseAnswer.getQuestionId());
-                    Answer answer = answersMap.get(responseAnswer.getAnswerId());
-
-                    if (question == null) {
-                        throw new ResourceNotFoundException("Question not found: " + responseAnswer.getQuestionId());
-                    }
-                    if (answer == null) {
-                        throw new ResourceNotFoundException("Answer not found: " + responseAnswer.getAnswerId());
-                    }
-
-                    return new Response(poll, question, answer, request.getRespondentName(),
-                            request.getRespondentGender(), request.getRespondentAge());
-                })
-                .collect(Collectors.toList());
+        // One submission carries the demographics; each chosen answer is a child row
+        Submission submission = new Submission(pollRepository.getReferenceById(poll.getId()),
+                request.getRespondentName(), request.getRespondentGender(), request.getRespondentAge());
+        submission.setVoterFingerprint(voterFingerprint);
+        for (ResponseAnswer responseAnswer : request.getAnswers()) {
+            PollDefinition.QuestionDefinition question = poll.findQuestion(responseAnswer.getQuestionId());
+
+            if (question == null) {
+                throw new ResourceNotFoundException("Question not found: " + responseAnswer.getQuestionId());
+            }
+            if (!question.hasAnswer(responseAnswer.getAnswerId())) {
+                throw new ResourceNotFoundException("Answer not found: " + responseAnswer.getAnswerId());
+            }
+
+            submission.addResponse(questionRepository.getReferenceById(responseAnswer.getQuestionId()),
+                    answerRepository.getReferenceById(responseAnswer.getAnswerId()));
+        }
+
+        // Only a valid vote counts as the voter's one vote
+        voteDedupService.checkNewVoter(poll.getId(), voterFingerprint);
+
+        // In async mode the validated submission is acknowledged once queued
+        if (voteIngestionService.isAsync()) {
+            voteIngestionService.enqueue(new PendingSubmission(poll.getId(), poll.getPollCode(), request.getAnswers(),
+                    request.getRespondentName(), request.getRespondentGender(), request.getRespondentAge(),
+                    voterFingerprint));
+            return;
+        }
 
-        responseRepository.saveAll(responses);
+        // Flushed here so a vote another node has already taken surfaces as a conflict, not a failed commit
+        try {
+            submissionRepository.saveAndFlush(submission);
+        } catch (DataIntegrityViolationException e) {
+            if (isDuplicateVote(e)) {
+                throw new ConflictException("You have already voted in this poll", e);
+            }
+            throw e;
+        }
 
         // Use database-level atomic increment instead of read-modify-write
         for (Long answerId : answerIds) {
             answerRepository.incrementResponseCount(answerId);
         }
+        Long sequence = pollRepository.incrementResponseCounters(poll.getId(), (long) answerIds.size(), 1L);
+        if (sequence == null) {
+            // Closed since the definition was cached; rolls the submission back
+            throw new BadRequestException("This poll is closed");
+        }
 
-        // Send real-time update via WebSocket (async recommended)
-        PollResultsDto results = pollService.getPollResults(request.getPollCode());
-        webSocketService.sendPollResults(request.getPollCode(), results);
+        // Tallied and broadcast on every node once committed
+        voteEventRelay.publish(List.of(new VoteEvent(poll.getId(), request.getPollCode(), answerIds, sequence)));
+    }
+
+    static boolean isDuplicateVote(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(Submission.VOTER_UNIQUE_INDEX);
     }
 
     @Override
     public PollResultsDto getResults(String pollCode) {
         return pollService.getPollResults(pollCode);
     }
+
+    @Override
+    public String getResultsETag(String pollCode) {
+        return pollService.getResultsETag(pollCode);
+    }
 }
\ No newline at end of file
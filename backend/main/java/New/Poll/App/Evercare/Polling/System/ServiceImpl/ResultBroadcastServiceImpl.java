@@ -0,0 +1,138 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.DTO.AnswerResultDto;
+import New.Poll.App.Evercare.Polling.System.DTO.PollDeltaDto;
+import New.Poll.App.Evercare.Polling.System.DTO.PollResultsDto;
+import New.Poll.App.Evercare.Polling.System.DTO.QuestionResultDto;
+import New.Poll.App.Evercare.Polling.System.Exception.ResourceNotFoundException;
+import New.Poll.App.Evercare.Polling.System.Service.PollService;
+import New.Poll.App.Evercare.Polling.System.Service.ResultBroadcastService;
+import New.Poll.App.Evercare.Polling.System.Service.WebSocketService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Coalesces result broadcasts. Votes only mark their poll as dirty; a
+ * scheduled flush sends one update per dirty poll per interval, so a burst
+ * of votes costs one broadcast instead of one per vote, and the last vote is
+ * broadcast at most one interval later.
+ *
+ * The first update for a poll is a full POLL_UPDATED snapshot; after that only
+ * the answers whose counts changed are sent as a POLL_DELTA.
+ *
+ * Behind an external STOMP broker only one node broadcasts (see
+ * PostgresVoteEventRelay); the others keep dropping their dirty polls so they
+ * start from a full snapshot if they take over.
+ *
+ * {@link #markAllDirty} is called from the relay's listener thread, so it
+ * only raises a flag; the next flush does the resync on the scheduler thread.
+ */
+@Service
+public class ResultBroadcastServiceImpl implements ResultBroadcastService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResultBroadcastServiceImpl.class);
+
+    @Autowired
+    private PollService pollService;
+
+    @Autowired
+    private WebSocketService webSocketService;
+
+    private final Set<String> dirtyPolls = ConcurrentHashMap.newKeySet();
+
+    // Only touched from the scheduler thread
+    private final Map<String, BroadcastState> lastBroadcasts = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean resyncRequested = new AtomicBoolean();
+
+    private volatile boolean broadcasting = true;
+
+    @Override
+    public void markDirty(String pollCode) {
+        dirtyPolls.add(pollCode);
+    }
+
+    @Override
+    public void markAllDirty() {
+        resyncRequested.set(true);
+    }
+
+    @Override
+    public void setBroadcasting(boolean broadcasting) {
+        this.broadcasting = broadcasting;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.websocket.broadcast-interval-ms:250}")
+    public void flush() {
+        if (!broadcasting) {
+            dirtyPolls.clear();
+            lastBroadcasts.clear();
+            resyncRequested.set(false);
+            return;
+        }
+        if (resyncRequested.getAndSet(false)) {
+            // Re-sending everything as a full snapshot lets clients drop deltas they may have missed
+            dirtyPolls.addAll(lastBroadcasts.keySet());
+            lastBroadcasts.clear();
+        }
+        for (String pollCode : dirtyPolls) {
+            // Remove before building the snapshot so a vote arriving meanwhile marks it dirty again
+            if (!dirtyPolls.remove(pollCode)) {
+                continue;
+            }
+            try {
+                broadcast(pollCode, pollService.getPollResults(pollCode));
+            } catch (ResourceNotFoundException e) {
+                lastBroadcasts.remove(pollCode);
+            } catch (Exception e) {
+                logger.error("Failed to broadcast results for poll: {}", pollCode, e);
+            }
+        }
+    }
+
+    private void broadcast(String pollCode, PollResultsDto results) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (QuestionResultDto question : results.getQuestionResults()) {
+            for (AnswerResultDto answer : question.getAnswerResults()) {
+                counts.put(answer.getAnswerId(), answer.getResponseCount());
+            }
+        }
+
+        BroadcastState previous = lastBroadcasts.get(pollCode);
+        if (previous == null) {
+            webSocketService.sendPollResults(pollCode, results);
+        } else if (results.getSequence() > previous.sequence) {
+            Map<Long, Long> changed = new HashMap<>();
+            counts.forEach((answerId, count) -> {
+                if (!count.equals(previous.counts.get(answerId))) {
+                    changed.put(answerId, count);
+                }
+            });
+            webSocketService.sendPollDelta(pollCode, new PollDeltaDto(results.getPollId(), previous.sequence,
+                    results.getSequence(), results.getTotalResponses(), changed));
+        } else {
+            return;
+        }
+        lastBroadcasts.put(pollCode, new BroadcastState(results.getSequence(), counts));
+    }
+
+    private static final class BroadcastState {
+        private final long sequence;
+        private final Map<Long, Long> counts;
+
+        private BroadcastState(long sequence, Map<Long, Long> counts) {
+            this.sequence = sequence;
+            this.counts = counts;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,133 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.Config.BoundedDataSource;
+import New.Poll.App.Evercare.Polling.System.Service.ThreadDiagnosticsService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reports how the virtual-thread mode is behaving. When
+ * app.threads.pinning-diagnostics is on, a JFR stream records
+ * jdk.VirtualThreadPinned events (a virtual thread blocking inside a
+ * synchronized section or native frame for longer than the threshold); each
+ * one is logged with the frames that pinned it and the latest are kept for
+ * GET /ops/threads.
+ */
+@Service
+public class ThreadDiagnosticsServiceImpl implements ThreadDiagnosticsService, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThreadDiagnosticsServiceImpl.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int RECENT_EVENTS = 20;
+    private static final int FRAMES = 8;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${app.threads.pinning-diagnostics:false}")
+    private boolean pinningDiagnostics;
+
+    @Value("${app.threads.pinning-threshold-ms:20}")
+    private long pinningThresholdMs;
+
+    private final LongAdder pinnedEvents = new LongAdder();
+    private final Deque<Map<String, Object>> recentPinned = new ArrayDeque<>();
+
+    private RecordingStream recording;
+
+    @Override
+    public void start() {
+        if (!virtualThreads || !pinningDiagnostics) {
+            return;
+        }
+        recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(pinningThresholdMs)).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::onPinned);
+        recording.startAsync();
+        logger.info("Virtual thread pinning diagnostics started (threshold {} ms)", pinningThresholdMs);
+    }
+
+    @Override
+    public void stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recording != null;
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("virtualThreads", virtualThreads);
+        stats.put("pinningDiagnostics", isRunning());
+        stats.put("pinnedEvents", pinnedEvents.sum());
+        synchronized (recentPinned) {
+            stats.put("recentPinned", new ArrayList<>(recentPinned));
+        }
+        try {
+            if (dataSource.isWrapperFor(BoundedDataSource.class)) {
+                stats.put("database", dataSource.unwrap(BoundedDataSource.class).getStats());
+            }
+        } catch (SQLException e) {
+            stats.put("database", e.getMessage());
+        }
+        return stats;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedEvents.increment();
+
+        List<String> frames = new ArrayList<>();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace != null) {
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                if (frames.size() == FRAMES) {
+                    break;
+                }
+                frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber());
+            }
+        }
+        long durationMs = event.getDuration().toMillis();
+        logger.warn("Virtual thread pinned for {} ms at {}", durationMs, frames);
+
+        Map<String, Object> pinned = new LinkedHashMap<>();
+        pinned.put("time", event.getStartTime().toString());
+        pinned.put("durationMs", durationMs);
+        pinned.put("frames", frames);
+        synchronized (recentPinned) {
+            recentPinned.addFirst(pinned);
+            if (recentPinned.size() > RECENT_EVENTS) {
+                recentPinned.removeLast();
+            }
+        }
+    }
+}
\ No newline at end of file
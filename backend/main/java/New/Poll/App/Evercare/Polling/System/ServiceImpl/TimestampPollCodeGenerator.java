@@ -0,0 +1,25 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.Service.PollCodeGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The original "poll" + milliseconds codes, kept for deployments that rely on
+ * that format. Only unique within a single node.
+ */
+@Service
+@ConditionalOnProperty(name = "app.poll-code.generator", havingValue = "timestamp")
+public class TimestampPollCodeGenerator implements PollCodeGenerator {
+
+    private final AtomicLong lastPollCode = new AtomicLong();
+
+    @Override
+    public String nextCode() {
+        // Never hand out the same millisecond twice, e.g. when creating polls in bulk
+        long now = System.currentTimeMillis();
+        return "poll" + lastPollCode.accumulateAndGet(now, (last, current) -> Math.max(last + 1, current));
+    }
+}
\ No newline at end of file
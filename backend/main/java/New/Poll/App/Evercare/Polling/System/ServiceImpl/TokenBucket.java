@@ -0,0 +1,41 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket. Instead of a token count it stores the instant the
+ * bucket will be full again: taking a token pushes that instant one refill
+ * interval further, and a request is refused when it would land more than a
+ * whole bucket ahead of now. One CAS per request, no refill thread.
+ */
+final class TokenBucket {
+
+    private final AtomicLong fullAt;
+
+    TokenBucket(long nowNanos) {
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Takes one token. Returns 0 on success, otherwise how many nanoseconds
+     * until a token becomes available.
+     */
+    long tryTake(long nowNanos, long intervalNanos, long capacityNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long wait = next - nowNanos - capacityNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    // Full for longer than idleNanos, so dropping it loses nothing
+    boolean isIdle(long nowNanos, long idleNanos) {
+        return nowNanos - fullAt.get() > idleNanos;
+    }
+}
\ No newline at end of file
@@ -2,7 +2,7 @@ package New.Poll.App.Evercare.Polling.System.ServiceImpl;
 
 import New.Poll.App.Evercare.Polling.System.Service.ValidationService;
 import New.Poll.App.Evercare.Polling.System.DTO.SubmitResponseRequest;
-import New.Poll.App.Evercare.Polling.System.Model.Poll;
+import New.Poll.App.Evercare.Polling.System.DTO.PollDefinition;
 import New.Poll.App.Evercare.Polling.System.Exception.BadRequestException;
 import org.springframework.stereotype.Service;
 
@@ -13,7 +13,7 @@ import java.util.List;
 public class ValidationServiceImpl implements ValidationService {
 
     @Override
-    public void validateDemographics(SubmitResponseRequest request, Poll poll) {
+    public void validateDemographics(SubmitResponseRequest request, PollDefinition poll) {
         List<String> requiredDemographics = poll.getRequiredDemographics();
 
         if (requiredDemographics == null || requiredDemographics.isEmpty()) {
@@ -0,0 +1,124 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.Exception.ConflictException;
+import New.Poll.App.Evercare.Polling.System.Repository.SubmissionRepository;
+import New.Poll.App.Evercare.Polling.System.Service.VoteDedupService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rejects repeat votes before they reach the write path. Each poll has an
+ * in-memory Bloom filter of the voter fingerprints seen so far, seeded from
+ * the database the first time the poll is voted on. A filter miss means a new
+ * voter and costs no query; only a hit is confirmed against the database.
+ *
+ * The unique index on submissions (poll_id, voter_fingerprint) stays the
+ * source of truth, e.g. for votes taken by other nodes.
+ *
+ * A voter is their voter_token cookie, so this only catches repeat votes from
+ * a browser that keeps its cookie. Clearing cookies or switching browsers
+ * yields a new token; RateLimitFilter limits how fast one address gets them.
+ */
+@Service
+public class VoteDedupServiceImpl implements VoteDedupService {
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Value("${app.voter-dedup.expected-voters:10000}")
+    private int expectedVoters;
+
+    @Value("${app.voter-dedup.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${app.voter-dedup.max-polls:1000}")
+    private int maxPolls;
+
+    // Access-ordered LRU of poll id to filter
+    private final Map<Long, BloomFilter> filters = new LinkedHashMap<>(64, 0.75f, true);
+
+    private final LongAdder newVoters = new LongAdder();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder seeds = new LongAdder();
+
+    @Override
+    public void checkNewVoter(Long pollId, String voterFingerprint) {
+        BloomFilter filter = filterFor(pollId);
+        if (filter.mightContain(voterFingerprint)) {
+            lookups.increment();
+            if (submissionRepository.existsByPollIdAndVoterFingerprint(pollId, voterFingerprint)) {
+                duplicates.increment();
+                throw new ConflictException("You have already voted in this poll");
+            }
+        } else {
+            newVoters.increment();
+        }
+
+        // Added before the vote commits; if it never does, the next check just costs a lookup
+        filter.put(voterFingerprint);
+        if (filter.isSaturated()) {
+            synchronized (filters) {
+                filters.remove(pollId, filter);
+            }
+        }
+    }
+
+    @Override
+    public void evict(Long pollId) {
+        synchronized (filters) {
+            filters.remove(pollId);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long bytes = 0;
+        synchronized (filters) {
+            stats.put("polls", filters.size());
+            for (BloomFilter filter : filters.values()) {
+                bytes += filter.getSizeInBytes();
+            }
+        }
+        stats.put("maxPolls", maxPolls);
+        stats.put("filterBytes", bytes);
+        stats.put("newVoters", newVoters.sum());
+        stats.put("lookups", lookups.sum());
+        stats.put("duplicates", duplicates.sum());
+        stats.put("seeds", seeds.sum());
+        return stats;
+    }
+
+    private BloomFilter filterFor(Long pollId) {
+        synchronized (filters) {
+            BloomFilter filter = filters.get(pollId);
+            if (filter != null) {
+                return filter;
+            }
+        }
+
+        // Seeded outside the lock; sized to leave room for as many voters again
+        List<String> fingerprints = submissionRepository.findVoterFingerprintsByPollId(pollId);
+        BloomFilter filter = new BloomFilter(Math.max(expectedVoters, fingerprints.size() * 2), falsePositiveRate);
+        fingerprints.forEach(filter::put);
+        seeds.increment();
+
+        synchronized (filters) {
+            BloomFilter existing = filters.putIfAbsent(pollId, filter);
+            if (existing != null) {
+                return existing;
+            }
+            if (filters.size() > maxPolls) {
+                filters.remove(filters.keySet().iterator().next());
+            }
+            return filter;
+        }
+    }
+}
\ No newline at end of file
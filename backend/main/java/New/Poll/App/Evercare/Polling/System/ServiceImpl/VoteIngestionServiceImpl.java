@@ -0,0 +1,252 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.DTO.PendingSubmission;
+import New.Poll.App.Evercare.Polling.System.DTO.ResponseAnswer;
+import New.Poll.App.Evercare.Polling.System.DTO.VoteEvent;
+import New.Poll.App.Evercare.Polling.System.Exception.BadRequestException;
+import New.Poll.App.Evercare.Polling.System.Exception.ServiceUnavailableException;
+import New.Poll.App.Evercare.Polling.System.Model.Poll;
+import New.Poll.App.Evercare.Polling.System.Model.Submission;
+import New.Poll.App.Evercare.Polling.System.Repository.AnswerRepository;
+import New.Poll.App.Evercare.Polling.System.Repository.PollRepository;
+import New.Poll.App.Evercare.Polling.System.Repository.QuestionRepository;
+import New.Poll.App.Evercare.Polling.System.Repository.SubmissionRepository;
+import New.Poll.App.Evercare.Polling.System.Service.VoteEventRelay;
+import New.Poll.App.Evercare.Polling.System.Service.VoteIngestionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind vote ingestion. When app.ingestion.mode=async, validated
+ * submissions are acknowledged as soon as they are queued, and a single writer
+ * thread drains the queue in batches of up to batch-size rows or
+ * flush-interval-ms, whichever comes first. Each batch is one transaction with
+ * one aggregated response_count update per answer and per poll.
+ *
+ * A full queue is reported as 503 with Retry-After. On shutdown the writer
+ * stops after the web server and drains whatever is still queued.
+ */
+@Service
+public class VoteIngestionServiceImpl implements VoteIngestionService, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoteIngestionServiceImpl.class);
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private PollRepository pollRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private VoteEventRelay voteEventRelay;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${app.ingestion.mode:sync}")
+    private String mode;
+
+    @Value("${app.ingestion.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.ingestion.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.ingestion.flush-interval-ms:50}")
+    private long flushIntervalMs;
+
+    @Value("${app.ingestion.retry-after-seconds:1}")
+    private long retryAfterSeconds;
+
+    @Value("${app.ingestion.shutdown-timeout-ms:30000}")
+    private long shutdownTimeoutMs;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private BlockingQueue<PendingSubmission> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    @Override
+    public boolean isAsync() {
+        return "async".equalsIgnoreCase(mode);
+    }
+
+    @Override
+    public void enqueue(PendingSubmission submission) {
+        if (!running) {
+            throw new ServiceUnavailableException("Vote ingestion is not accepting submissions", retryAfterSeconds);
+        }
+        if (!queue.offer(submission)) {
+            throw new ServiceUnavailableException("Too many votes right now, please retry", retryAfterSeconds);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!isAsync()) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = virtualThreads
+                ? new VirtualThreadTaskExecutor("vote-writer").getVirtualThreadFactory().newThread(this::drainLoop)
+                : new Thread(this::drainLoop, "vote-writer");
+        writer.start();
+        logger.info("Async vote ingestion started (queue={}, batch={}, flush={}ms)", queueCapacity, batchSize, flushIntervalMs);
+    }
+
+    @Override
+    public void stop() {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            logger.error("Vote writer stopped with {} submissions still queued", queue.size());
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Stop after the web server so no new votes arrive while draining
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<PendingSubmission> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingSubmission first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                int rows = first.getAnswers().size();
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (rows < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingSubmission next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    rows += next.getAnswers().size();
+                }
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                logger.error("Vote writer failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingSubmission> batch) {
+        try {
+            persist(batch);
+        } catch (Exception e) {
+            // Retry one by one so a single bad submission does not lose the whole batch
+            logger.warn("Batch of {} submissions failed, retrying individually", batch.size(), e);
+            for (PendingSubmission submission : batch) {
+                try {
+                    persist(List.of(submission));
+                } catch (DataIntegrityViolationException ex) {
+                    if (!ResponseServiceImpl.isDuplicateVote(ex)) {
+                        logger.error("Dropping submission for poll: {}", submission.getPollCode(), ex);
+                    } else {
+                        // Accepted by another node or resubmitted before the first one was written
+                        logger.info("Dropping duplicate vote for poll: {}", submission.getPollCode());
+                    }
+                } catch (BadRequestException ex) {
+                    // Completed or archived after the vote was queued
+                    logger.info("Dropping vote for closed poll: {}", submission.getPollCode());
+                } catch (Exception ex) {
+                    logger.error("Dropping submission for poll: {}", submission.getPollCode(), ex);
+                }
+            }
+        }
+    }
+
+    private void persist(List<PendingSubmission> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Submission> submissions = new ArrayList<>();
+            // Sorted so concurrent writers always lock answer rows in the same order
+            Map<Long, Long> answerIncrements = new TreeMap<>();
+            Map<Long, long[]> pollIncrements = new TreeMap<>();
+
+            for (PendingSubmission submission : batch) {
+                Poll poll = pollRepository.getReferenceById(submission.getPollId());
+                Submission entity = new Submission(poll, submission.getRespondentName(),
+                        submission.getRespondentGender(), submission.getRespondentAge());
+                entity.setVoterFingerprint(submission.getVoterFingerprint());
+                long[] counters = pollIncrements.computeIfAbsent(submission.getPollId(), id -> new long[2]);
+                counters[0] += submission.getAnswers().size();
+                counters[1]++;
+                for (ResponseAnswer responseAnswer : submission.getAnswers()) {
+                    entity.addResponse(questionRepository.getReferenceById(responseAnswer.getQuestionId()),
+                            answerRepository.getReferenceById(responseAnswer.getAnswerId()));
+                    answerIncrements.merge(responseAnswer.getAnswerId(), 1L, Long::sum);
+                }
+                submissions.add(entity);
+            }
+
+            submissionRepository.saveAll(submissions);
+            answerIncrements.forEach(answerRepository::incrementResponseCountBy);
+            // The batch commits as one, so every vote in it carries the poll's counter after the batch
+            Map<Long, Long> sequences = new TreeMap<>();
+            pollIncrements.forEach((pollId, counters) -> {
+                Long sequence = pollRepository.incrementResponseCounters(pollId, counters[0], counters[1]);
+                if (sequence == null) {
+                    throw new BadRequestException("Poll " + pollId + " is closed");
+                }
+                sequences.put(pollId, sequence);
+            });
+
+            List<VoteEvent> events = new ArrayList<>(batch.size());
+            for (PendingSubmission submission : batch) {
+                events.add(new VoteEvent(submission.getPollId(), submission.getPollCode(), submission.getAnswers().stream()
+                        .map(ResponseAnswer::getAnswerId)
+                        .collect(Collectors.toList()), sequences.get(submission.getPollId())));
+            }
+            voteEventRelay.publish(events);
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,196 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.Repository.AnswerRepository;
+import New.Poll.App.Evercare.Polling.System.Repository.PollRepository;
+import New.Poll.App.Evercare.Polling.System.Repository.ResponseRepository;
+import New.Poll.App.Evercare.Polling.System.Service.VoteTallyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps live vote counts per poll in memory so results can be built without
+ * COUNT queries. A poll's tally is seeded from the stored answer counters the
+ * first time it is touched and is then kept current by {@link #recordVotes}, which callers
+ * must only invoke once per committed submission. The total counts
+ * respondents, not answer rows. Each tally also carries
+ * a sequence number that grows with every recorded vote, which clients use to
+ * order delta updates.
+ *
+ * A vote can commit while its poll is being seeded, so the seed remembers the
+ * poll's response_count it was read at. Every vote carries the response_count
+ * its own transaction left behind; updates to that row are serialized, so a
+ * vote at or below the seed's value is already in the seed and is skipped.
+ */
+@Service
+public class VoteTallyServiceImpl implements VoteTallyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoteTallyServiceImpl.class);
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private PollRepository pollRepository;
+
+    @Autowired
+    private ResponseRepository responseRepository;
+
+    private final Map<Long, PollTally> tallies = new ConcurrentHashMap<>();
+
+    // Seeding runs SQL, so it is kept out of ConcurrentHashMap.computeIfAbsent. Striped by
+    // poll, so a slow seed only holds up the few polls sharing its lock, and the set never grows
+    private static final int SEED_LOCK_STRIPES = 64;
+    private final ReentrantLock[] seedLocks = new ReentrantLock[SEED_LOCK_STRIPES];
+
+    public VoteTallyServiceImpl() {
+        for (int i = 0; i < SEED_LOCK_STRIPES; i++) {
+            seedLocks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public void recordVotes(Long pollId, List<Long> answerIds, long sequence) {
+        PollTally tally = tallies.get(pollId);
+        if (tally == null) {
+            // Wait out a seed in progress; if there is none, the next seed will read this committed vote
+            ReentrantLock seedLock = seedLock(pollId);
+            seedLock.lock();
+            try {
+                tally = tallies.get(pollId);
+            } finally {
+                seedLock.unlock();
+            }
+            if (tally == null) {
+                return;
+            }
+        }
+        if (sequence <= tally.seededThrough) {
+            return;
+        }
+        for (Long answerId : answerIds) {
+            tally.answerCounts.computeIfAbsent(answerId, id -> new LongAdder()).increment();
+        }
+        tally.totalResponses.increment();
+        tally.sequence.addAndGet(answerIds.size());
+    }
+
+    @Override
+    public long getAnswerCount(Long pollId, Long answerId) {
+        LongAdder count = tallyFor(pollId).answerCounts.get(answerId);
+        return count != null ? count.sum() : 0L;
+    }
+
+    @Override
+    public long getTotalResponses(Long pollId) {
+        return tallyFor(pollId).totalResponses.sum();
+    }
+
+    @Override
+    public long getSequence(Long pollId) {
+        return tallyFor(pollId).sequence.get();
+    }
+
+    @Override
+    public void rebuild(Long pollId) {
+        ReentrantLock seedLock = seedLock(pollId);
+        seedLock.lock();
+        try {
+            PollTally tally = new PollTally();
+            long votes = 0;
+            // Authoritative: grouped straight from the responses table rather than the stored counters
+            for (ResponseRepository.AnswerCount row : responseRepository.countByQuestionAndAnswerForPoll(pollId)) {
+                LongAdder adder = new LongAdder();
+                adder.add(row.getCount());
+                tally.answerCounts.put(row.getAnswerId(), adder);
+                votes += row.getCount();
+            }
+            Long respondents = pollRepository.findRespondentCountById(pollId);
+            tally.totalResponses.add(respondents != null ? respondents : 0L);
+            // Runs in the reconcile transaction, which holds the poll row, so no vote lands in between
+            Long responses = pollRepository.findResponseCountById(pollId);
+            tally.seededThrough = responses != null ? responses : 0L;
+            PollTally previous = tallies.get(pollId);
+            // Never move the sequence backwards, clients treat that as a gap
+            tally.sequence.set(previous != null ? Math.max(votes, previous.sequence.get() + 1) : votes);
+            tallies.put(pollId, tally);
+            logger.info("Rebuilt vote tally for poll {} from {} votes", pollId, votes);
+        } finally {
+            seedLock.unlock();
+        }
+    }
+
+    @Override
+    public void evict(Long pollId) {
+        tallies.remove(pollId);
+    }
+
+    @Override
+    public void evictAll() {
+        tallies.clear();
+    }
+
+    private PollTally tallyFor(Long pollId) {
+        PollTally tally = tallies.get(pollId);
+        if (tally != null) {
+            return tally;
+        }
+
+        ReentrantLock seedLock = seedLock(pollId);
+        seedLock.lock();
+        try {
+            tally = tallies.get(pollId);
+            if (tally == null) {
+                tally = seed(pollId);
+                tallies.put(pollId, tally);
+            }
+            return tally;
+        } finally {
+            seedLock.unlock();
+        }
+    }
+
+    private ReentrantLock seedLock(Long pollId) {
+        return seedLocks[Math.floorMod(Long.hashCode(pollId), SEED_LOCK_STRIPES)];
+    }
+
+    private PollTally seed(Long pollId) {
+        PollTally tally = new PollTally();
+        long votes = 0;
+        long respondents = 0;
+        for (Object[] row : answerRepository.findResponseCountsByPollId(pollId)) {
+            tally.seededThrough = ((Number) row[2]).longValue();
+            respondents = ((Number) row[3]).longValue();
+            if (row[0] == null) {
+                continue;
+            }
+            Long answerId = ((Number) row[0]).longValue();
+            long count = ((Number) row[1]).longValue();
+            LongAdder adder = new LongAdder();
+            adder.add(count);
+            tally.answerCounts.put(answerId, adder);
+            votes += count;
+        }
+        tally.totalResponses.add(respondents);
+        // Start from the persisted vote count so sequences keep increasing across restarts
+        tally.sequence.set(votes);
+        logger.debug("Seeded vote tally for poll {} with {} answers", pollId, tally.answerCounts.size());
+        return tally;
+    }
+
+    private static final class PollTally {
+        private final ConcurrentHashMap<Long, LongAdder> answerCounts = new ConcurrentHashMap<>();
+        private final LongAdder totalResponses = new LongAdder();
+        private final AtomicLong sequence = new AtomicLong();
+        // The poll's response_count the seed was read at
+        private long seededThrough;
+    }
+}
\ No newline at end of file
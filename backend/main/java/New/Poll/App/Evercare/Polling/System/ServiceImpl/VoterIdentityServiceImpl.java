@@ -0,0 +1,100 @@
+package New.Poll.App.Evercare.Polling.System.ServiceImpl;
+
+import New.Poll.App.Evercare.Polling.System.Exception.BadRequestException;
+import New.Poll.App.Evercare.Polling.System.Service.VoterIdentityService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Voter tokens are "id.signature": a random id and a truncated HMAC of it, so
+ * the server can trust a token without storing it. A voter's fingerprint for
+ * a poll is an HMAC of the poll code and the token id. Votes without a valid
+ * token are refused: an IP and User-Agent fallback let scripts vote freely
+ * by changing the User-Agent, and made voters behind one NAT collide.
+ */
+@Service
+public class VoterIdentityServiceImpl implements VoterIdentityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(VoterIdentityServiceImpl.class);
+
+    private static final int ID_BYTES = 16;
+    private static final int SIGNATURE_BYTES = 16;
+    private static final int FINGERPRINT_BYTES = 16;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecureRandom random = new SecureRandom();
+    private final ThreadLocal<Mac> mac;
+
+    public VoterIdentityServiceImpl(@Value("${app.voter.secret:}") String secret) {
+        byte[] key;
+        if (secret.isBlank()) {
+            // Tokens still work, but only on this node and until it restarts
+            logger.warn("app.voter.secret is not set, using a random key");
+            key = new byte[32];
+            random.nextBytes(key);
+        } else {
+            key = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        SecretKeySpec keySpec = new SecretKeySpec(key, "HmacSHA256");
+        this.mac = ThreadLocal.withInitial(() -> {
+            try {
+                Mac instance = Mac.getInstance("HmacSHA256");
+                instance.init(keySpec);
+                return instance;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        });
+    }
+
+    @Override
+    public String issueToken() {
+        byte[] id = new byte[ID_BYTES];
+        random.nextBytes(id);
+        String encodedId = ENCODER.encodeToString(id);
+        return encodedId + "." + ENCODER.encodeToString(sign("token:" + encodedId, SIGNATURE_BYTES));
+    }
+
+    @Override
+    public boolean isValidToken(String token) {
+        if (token == null) {
+            return false;
+        }
+        int dot = token.indexOf('.');
+        if (dot <= 0) {
+            return false;
+        }
+        try {
+            byte[] signature = DECODER.decode(token.substring(dot + 1));
+            return MessageDigest.isEqual(signature, sign("token:" + token.substring(0, dot), SIGNATURE_BYTES));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public String fingerprint(String pollCode, String token) {
+        if (!isValidToken(token)) {
+            throw new BadRequestException("Open the poll again to vote; this browser has no voter token");
+        }
+        String voter = "t:" + token.substring(0, token.indexOf('.'));
+        return ENCODER.encodeToString(sign("vote:" + pollCode + ":" + voter, FINGERPRINT_BYTES));
+    }
+
+    private byte[] sign(String value, int length) {
+        return Arrays.copyOf(mac.get().doFinal(value.getBytes(StandardCharsets.UTF_8)), length);
+    }
+}
\ No newline at end of file
@@ -4,11 +4,16 @@ import New.Poll.App.Evercare.Polling.System.Service.WebSocketService;
 import New.Poll.App.Evercare.Polling.System.DTO.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Sends on the caller's thread, which is the broadcast flush. Handing the
+ * broker to the channel does not block, and it keeps each poll's snapshot and
+ * deltas in sequence order; a pool could deliver them out of order and make
+ * clients refetch over gaps that are not real.
+ */
 @Service
 public class WebSocketServiceImpl implements WebSocketService {
 
@@ -18,7 +23,6 @@ public class WebSocketServiceImpl implements WebSocketService {
     private SimpMessagingTemplate messagingTemplate;
 
     @Override
-    @Async("webSocketTaskExecutor")  // Makes this non-blocking
     public void sendPollResults(String pollCode, PollResultsDto results) {
         try {
             WebSocketMessage message = new WebSocketMessage("POLL_UPDATED", pollCode, results);
@@ -29,4 +33,15 @@ public class WebSocketServiceImpl implements WebSocketService {
             // Don't throw - we don't want WebSocket failures to break the submission
         }
     }
+
+    @Override
+    public void sendPollDelta(String pollCode, PollDeltaDto delta) {
+        try {
+            WebSocketMessage message = new WebSocketMessage("POLL_DELTA", pollCode, delta);
+            messagingTemplate.convertAndSend("/topic/poll/" + pollCode, message);
+            logger.debug("Sent poll delta {} -> {} for poll: {}", delta.getBaseSequence(), delta.getSequence(), pollCode);
+        } catch (Exception e) {
+            logger.error("Failed to send WebSocket delta for poll: {}", pollCode, e);
+        }
+    }
 }
\ No newline at end of file
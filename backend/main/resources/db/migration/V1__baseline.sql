@@ -0,0 +1,68 @@
+-- Baseline: the schema as Hibernate generated it before migrations owned it.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate)
+-- and skip this script; empty databases are built from it.
+
+CREATE TABLE IF NOT EXISTS admins (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username   VARCHAR(255) NOT NULL UNIQUE,
+    password   VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS poll_statuses (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL UNIQUE,
+    description VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS chart_types (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(255) NOT NULL UNIQUE,
+    description VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS polls (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title              VARCHAR(255) NOT NULL,
+    poll_code          VARCHAR(255) NOT NULL UNIQUE,
+    share_link         VARCHAR(255) NOT NULL,
+    qr_code            VARCHAR(255) NOT NULL,
+    poll_status_id     BIGINT NOT NULL REFERENCES poll_statuses (id),
+    chart_type_id      BIGINT NOT NULL REFERENCES chart_types (id),
+    allow_view_results BOOLEAN NOT NULL,
+    admin_id           BIGINT NOT NULL,
+    created_at         TIMESTAMP(6) NOT NULL,
+    updated_at         TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS poll_required_demographics (
+    poll_id     BIGINT NOT NULL REFERENCES polls (id),
+    demographic VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS questions (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    text           VARCHAR(255),
+    question_order INTEGER,
+    poll_id        BIGINT NOT NULL REFERENCES polls (id)
+);
+
+CREATE TABLE IF NOT EXISTS answers (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    text           VARCHAR(255),
+    answer_order   INTEGER,
+    question_id    BIGINT NOT NULL REFERENCES questions (id),
+    response_count BIGINT NOT NULL,
+    version        BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS responses (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    poll_id           BIGINT NOT NULL REFERENCES polls (id),
+    question_id       BIGINT NOT NULL REFERENCES questions (id),
+    answer_id         BIGINT NOT NULL REFERENCES answers (id),
+    respondent_name   VARCHAR(255),
+    respondent_gender VARCHAR(255),
+    respondent_age    INTEGER,
+    created_at        TIMESTAMP(6)
+);
@@ -0,0 +1,23 @@
+-- V1 is the existing schema as generated by Hibernate (ddl-auto=update).
+-- Switch responses, answers and questions from IDENTITY columns to
+-- sequences used by Hibernate's pooled optimizer (allocationSize = 50).
+-- With IDENTITY every insert needs its own round-trip to learn the key,
+-- which silently disables hibernate.jdbc.batch_size.
+--
+-- Each sequence is positioned so that the first block Hibernate reserves
+-- (nextval - 49 .. nextval) starts above the current max id.
+
+CREATE SEQUENCE IF NOT EXISTS responses_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('responses_seq', (SELECT COALESCE(MAX(id), 0) FROM responses) + 50);
+ALTER TABLE responses ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE responses ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS answers_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('answers_seq', (SELECT COALESCE(MAX(id), 0) FROM answers) + 50);
+ALTER TABLE answers ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE answers ALTER COLUMN id DROP DEFAULT;
+
+CREATE SEQUENCE IF NOT EXISTS questions_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('questions_seq', (SELECT COALESCE(MAX(id), 0) FROM questions) + 50);
+ALTER TABLE questions ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE questions ALTER COLUMN id DROP DEFAULT;
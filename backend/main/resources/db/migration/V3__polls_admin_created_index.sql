@@ -0,0 +1,3 @@
+-- Backs keyset pagination of GET /polls/admin/{adminId}, which orders an
+-- admin's polls by (created_at DESC, id DESC).
+CREATE INDEX IF NOT EXISTS idx_polls_admin_created ON polls (admin_id, created_at DESC, id DESC);
@@ -0,0 +1,12 @@
+-- Stored per-poll counters so reads no longer COUNT the responses table.
+-- Kept current on submission; POST /polls/counters/reconcile rebuilds them.
+ALTER TABLE polls ADD COLUMN IF NOT EXISTS response_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE polls ADD COLUMN IF NOT EXISTS respondent_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE polls p
+SET response_count = c.responses,
+    respondent_count = c.respondents
+FROM (SELECT poll_id, SUM(n) AS responses, MAX(n) AS respondents
+      FROM (SELECT poll_id, question_id, COUNT(*) AS n FROM responses GROUP BY poll_id, question_id) q
+      GROUP BY poll_id) c
+WHERE p.id = c.poll_id;
@@ -0,0 +1,124 @@
+-- One row per respondent. Demographics move off responses, which keep only
+-- the chosen answer and a reference to their submission.
+CREATE SEQUENCE IF NOT EXISTS submissions_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS submissions (
+    id                BIGINT PRIMARY KEY,
+    poll_id           BIGINT NOT NULL REFERENCES polls (id),
+    respondent_name   VARCHAR(255),
+    respondent_gender VARCHAR(255),
+    respondent_age    INTEGER,
+    created_at        TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_submissions_poll ON submissions (poll_id);
+
+ALTER TABLE responses ADD COLUMN IF NOT EXISTS submission_id BIGINT;
+
+-- Backfill. A legacy submit saved one row per answered question, each stamped
+-- as it was inserted, so the rows of one submit share the poll and the
+-- demographics and lie within milliseconds of each other, but not on one
+-- exact timestamp. Rows are walked per poll and demographics in insertion
+-- order (created_at, id) and each goes to the oldest submission of that group
+-- that started less than a second earlier and has no answer to its question
+-- yet; otherwise it starts a new submission.
+--
+-- Ambiguous rows: voters with identical demographics (typically anonymous)
+-- who submitted within the same second are only told apart by the questions
+-- they answered. Each still gets a submission of their own, so
+-- respondent_count stays right, but interleaved rows may be paired with the
+-- other voter's answers to different questions.
+CREATE TEMPORARY TABLE submission_backfill (
+    response_id   BIGINT PRIMARY KEY,
+    submission_id BIGINT NOT NULL
+) ON COMMIT DROP;
+
+CREATE TEMPORARY TABLE submission_groups (
+    id                BIGINT PRIMARY KEY,
+    poll_id           BIGINT NOT NULL,
+    respondent_name   VARCHAR(255),
+    respondent_gender VARCHAR(255),
+    respondent_age    INTEGER,
+    created_at        TIMESTAMP(6),
+    question_ids      BIGINT[] NOT NULL
+) ON COMMIT DROP;
+
+DO $$
+DECLARE
+    r           RECORD;
+    first_row   BOOLEAN := TRUE;
+    prev_poll   BIGINT;
+    prev_name   VARCHAR(255);
+    prev_gender VARCHAR(255);
+    prev_age    INTEGER;
+    next_id     BIGINT := 0;
+    -- Groups below this id are older than a second or belong to another poll/demographics
+    first_open  BIGINT := 1;
+    group_id    BIGINT;
+BEGIN
+    FOR r IN
+        SELECT id, poll_id, question_id, respondent_name, respondent_gender, respondent_age, created_at
+        FROM responses
+        WHERE submission_id IS NULL
+        ORDER BY poll_id, respondent_name, respondent_gender, respondent_age, created_at, id
+    LOOP
+        IF first_row OR r.poll_id <> prev_poll
+                OR r.respondent_name IS DISTINCT FROM prev_name
+                OR r.respondent_gender IS DISTINCT FROM prev_gender
+                OR r.respondent_age IS DISTINCT FROM prev_age THEN
+            first_open := next_id + 1;
+        ELSE
+            -- Groups are numbered in created_at order, so the window only moves forward
+            SELECT COALESCE(MIN(g.id), next_id + 1) INTO first_open
+            FROM submission_groups g
+            WHERE g.id >= first_open AND g.created_at >= r.created_at - INTERVAL '1 second';
+        END IF;
+
+        SELECT g.id INTO group_id
+        FROM submission_groups g
+        WHERE g.id >= first_open AND NOT (r.question_id = ANY (g.question_ids))
+        ORDER BY g.id
+        LIMIT 1;
+
+        IF group_id IS NULL THEN
+            next_id := next_id + 1;
+            group_id := next_id;
+            INSERT INTO submission_groups
+            VALUES (group_id, r.poll_id, r.respondent_name, r.respondent_gender, r.respondent_age,
+                    r.created_at, ARRAY[r.question_id]);
+        ELSE
+            UPDATE submission_groups SET question_ids = question_ids || r.question_id WHERE id = group_id;
+        END IF;
+
+        INSERT INTO submission_backfill VALUES (r.id, group_id);
+
+        first_row := FALSE;
+        prev_poll := r.poll_id;
+        prev_name := r.respondent_name;
+        prev_gender := r.respondent_gender;
+        prev_age := r.respondent_age;
+    END LOOP;
+END $$;
+
+-- Position the sequence like V2 so the first pooled block starts above the backfill
+SELECT setval('submissions_seq', (SELECT COALESCE(MAX(id), 0) FROM submission_groups) + 50);
+
+INSERT INTO submissions (id, poll_id, respondent_name, respondent_gender, respondent_age, created_at)
+SELECT id, poll_id, respondent_name, respondent_gender, respondent_age, created_at
+FROM submission_groups;
+
+UPDATE responses r
+SET submission_id = b.submission_id
+FROM submission_backfill b
+WHERE r.id = b.response_id;
+
+ALTER TABLE responses ALTER COLUMN submission_id SET NOT NULL;
+ALTER TABLE responses ADD CONSTRAINT fk_responses_submission FOREIGN KEY (submission_id) REFERENCES submissions (id);
+CREATE INDEX IF NOT EXISTS idx_responses_submission ON responses (submission_id);
+
+ALTER TABLE responses DROP COLUMN IF EXISTS respondent_name;
+ALTER TABLE responses DROP COLUMN IF EXISTS respondent_gender;
+ALTER TABLE responses DROP COLUMN IF EXISTS respondent_age;
+
+UPDATE polls p
+SET respondent_count = (SELECT COUNT(*) FROM submissions s WHERE s.poll_id = p.id);
@@ -0,0 +1,19 @@
+-- Indexes for the repository query paths. Names match the @Table(indexes)
+-- declarations, which SchemaIndexVerifier checks for at startup.
+
+-- ResponseRepository: countByPollId, deleteByPollId and the
+-- (poll, question, answer) GROUP BY are answered from this index alone
+CREATE INDEX IF NOT EXISTS idx_responses_poll_question_answer ON responses (poll_id, question_id, answer_id);
+-- countByAnswerId and answer counter reconciliation
+CREATE INDEX IF NOT EXISTS idx_responses_answer ON responses (answer_id);
+-- findByPollIdOrderByCreatedAtDesc
+CREATE INDEX IF NOT EXISTS idx_responses_poll_created ON responses (poll_id, created_at DESC);
+
+-- QuestionRepository: findByPollIdOrderByQuestionOrder, findWithAnswersByPollId, countByPollId
+CREATE INDEX IF NOT EXISTS idx_questions_poll_order ON questions (poll_id, question_order);
+
+-- AnswerRepository: findByQuestionIdOrderByAnswerOrder and Question.answers loads
+CREATE INDEX IF NOT EXISTS idx_answers_question_order ON answers (question_id, answer_order);
+
+-- Poll.requiredDemographics loads
+CREATE INDEX IF NOT EXISTS idx_poll_required_demographics_poll ON poll_required_demographics (poll_id);
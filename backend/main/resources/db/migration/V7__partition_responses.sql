@@ -0,0 +1,37 @@
+-- Hash-partition responses by poll_id. Every read and write of responses is
+-- scoped to one poll, so each statement touches a single partition and
+-- deleting a poll is one DELETE against that partition's
+-- (poll_id, question_id, answer_id) index.
+--
+-- The primary key must include the partition key, hence (id, poll_id);
+-- ids still come from responses_seq and stay unique on their own.
+
+CREATE TABLE responses_partitioned (
+    id            BIGINT NOT NULL,
+    submission_id BIGINT NOT NULL REFERENCES submissions (id),
+    poll_id       BIGINT NOT NULL REFERENCES polls (id),
+    question_id   BIGINT NOT NULL REFERENCES questions (id),
+    answer_id     BIGINT NOT NULL REFERENCES answers (id),
+    created_at    TIMESTAMP(6),
+    PRIMARY KEY (id, poll_id)
+) PARTITION BY HASH (poll_id);
+
+DO $$
+BEGIN
+    FOR i IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE responses_p%s PARTITION OF responses_partitioned '
+                       'FOR VALUES WITH (MODULUS 16, REMAINDER %s)', i, i);
+    END LOOP;
+END $$;
+
+INSERT INTO responses_partitioned (id, submission_id, poll_id, question_id, answer_id, created_at)
+SELECT id, submission_id, poll_id, question_id, answer_id, created_at FROM responses;
+
+DROP TABLE responses;
+ALTER TABLE responses_partitioned RENAME TO responses;
+
+-- Partitioned indexes; each partition gets its own copy
+CREATE INDEX idx_responses_poll_question_answer ON responses (poll_id, question_id, answer_id);
+CREATE INDEX idx_responses_answer ON responses (answer_id);
+CREATE INDEX idx_responses_poll_created ON responses (poll_id, created_at DESC);
+CREATE INDEX idx_responses_submission ON responses (submission_id);
@@ -0,0 +1,3 @@
+-- Set when a completed poll's submissions and responses have been moved to
+-- the archive store (app.archive.directory); its counters are final from then on.
+ALTER TABLE polls ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP(6);
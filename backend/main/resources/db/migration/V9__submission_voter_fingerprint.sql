@@ -0,0 +1,5 @@
+-- Server-side duplicate-vote guard: one submission per voter per poll.
+-- Existing submissions have no fingerprint and are not constrained (NULLs
+-- never collide in a unique index).
+ALTER TABLE submissions ADD COLUMN IF NOT EXISTS voter_fingerprint VARCHAR(32);
+CREATE UNIQUE INDEX IF NOT EXISTS uk_submissions_poll_voter ON submissions (poll_id, voter_fingerprint);
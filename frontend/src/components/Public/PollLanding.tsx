@@ -23,9 +23,9 @@ const PollLanding: React.FC = () => {
       return;
     }
 
-    // Check if poll code starts with "poll"
-    if (!trimmedCode.toLowerCase().startsWith("poll")) {
-      showNotification("Invalid poll code. Poll codes must start with 'poll'.", "error");
+    // Codes are letters and digits: compact codes or legacy "poll" + digits
+    if (!/^[0-9A-Za-z]{1,32}$/.test(trimmedCode)) {
+      showNotification("Invalid poll code. Poll codes contain only letters and digits.", "error");
       return;
     }
 
@@ -7,7 +7,6 @@ interface Answer {
   id: number;
   text: string;
   answerOrder: number;
-  responseCount: number;
 }
 
 interface Question {
@@ -47,7 +46,16 @@ const PollResponse: React.FC = () => {
 
   const fetchPoll = async () => {
     try {
-      const response = await fetch(`${config.getPollByCodeUrl}/${pollCode}`);
+      // The voter_token cookie the server uses to reject repeat votes; the poll itself may come from a shared cache
+      const [response] = await Promise.all([
+        fetch(`${config.getPollByCodeUrl}/${pollCode}`, {
+          credentials: 'include',
+        }),
+        fetch(config.voterTokenUrl, {
+          method: 'POST',
+          credentials: 'include',
+        }),
+      ]);
       if (!response.ok) {
         throw new Error("Poll not found");
       }
@@ -106,6 +114,7 @@ const PollResponse: React.FC = () => {
     try {
       const response = await fetch(config.submitResponseUrl, {
         method: 'POST',
+        credentials: 'include',
         headers: { 
           'Content-Type': 'application/json',
         },
@@ -114,7 +123,7 @@ const PollResponse: React.FC = () => {
 
       if (!response.ok) {
         const errorData = await response.json().catch(() => ({}));
-        throw new Error(errorData.message || 'Failed to submit response');
+        throw new Error(errorData.error || errorData.message || 'Failed to submit response');
       }
 
       showPopup("Thank you for participating! Your response has been submitted.", "success");
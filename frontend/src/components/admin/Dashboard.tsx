@@ -57,6 +57,8 @@ interface ShareModalProps {
 const ShareModal: React.FC<ShareModalProps> = ({ isOpen, poll, onClose }) => {
   if (!isOpen || !poll) return null;
 
+  const API_BASE_URL = import.meta.env.VITE_API_BASE_URL || 'http://localhost:9092/pollapi';
+
   return (
     <div className="modal-overlay" onClick={onClose}>
       <div className="modal-content" onClick={(e) => e.stopPropagation()}>
@@ -106,7 +108,7 @@ const ShareModal: React.FC<ShareModalProps> = ({ isOpen, poll, onClose }) => {
             <label className="share-label">QR Code:</label>
             <div className="qr-code-container">
               <img 
-                src={`/qrcodes/${poll.qrCode}`} 
+                src={`${API_BASE_URL}/polls/code/${poll.pollCode}/qr?format=svg`} 
                 alt="Poll QR Code" 
                 className="qr-code-img"
                 onError={(e) => {
@@ -14,6 +14,7 @@ interface QuestionResult {
   questionId: number;
   questionText: string;
   answerResults: AnswerResult[];
+  totalResponses: number;
 }
 
 interface PollResultData {
@@ -22,14 +23,47 @@ interface PollResultData {
   chartType: string;
   totalResponses: number;
   questionResults: QuestionResult[];
+  sequence: number;
+}
+
+interface PollDelta {
+  pollId: number;
+  baseSequence: number;
+  sequence: number;
+  totalResponses: number;
+  answerCounts: Record<string, number>;
 }
 
 interface WebSocketMessage {
   type: string;
   pollCode: string;
-  data: PollResultData;
+  data?: PollResultData;
+  delta?: PollDelta;
 }
 
+const applyDeltaToResults = (results: PollResultData, delta: PollDelta): PollResultData => ({
+  ...results,
+  sequence: delta.sequence,
+  totalResponses: delta.totalResponses,
+  questionResults: results.questionResults.map((question) => {
+    const counts = question.answerResults.map((answer) => {
+      const changed = delta.answerCounts[answer.answerId];
+      return changed !== undefined ? changed : answer.responseCount;
+    });
+    // Same denominator as the server: everyone who answered this question
+    const questionTotal = counts.reduce((sum, count) => sum + count, 0);
+    return {
+      ...question,
+      totalResponses: questionTotal,
+      answerResults: question.answerResults.map((answer, i) => ({
+        ...answer,
+        responseCount: counts[i],
+        percentage: questionTotal > 0 ? (counts[i] / questionTotal) * 100 : 0,
+      })),
+    };
+  }),
+});
+
 // Declare SockJS and Stomp types
 declare global {
   interface Window {
@@ -47,6 +81,7 @@ const LivePollResult: React.FC = () => {
   const [isConnected, setIsConnected] = useState(false);
 
   const stompClientRef = useRef<any>(null);
+  const sequenceRef = useRef<number | null>(null);
 
   const API_BASE_URL = import.meta.env.VITE_API_BASE_URL || 'http://localhost:9092/pollapi';
 
@@ -99,8 +134,19 @@ const LivePollResult: React.FC = () => {
               
               if (wsMessage.type === 'POLL_UPDATED' && wsMessage.data) {
                 console.log('📊 Live update received');
+                sequenceRef.current = wsMessage.data.sequence;
                 setPollData(wsMessage.data);
                 setError('');
+              } else if (wsMessage.type === 'POLL_DELTA' && wsMessage.delta) {
+                const delta = wsMessage.delta;
+                const current = sequenceRef.current;
+                if (current === null || delta.baseSequence > current) {
+                  // Missed an update - resync from a full snapshot
+                  fetchPollResults();
+                } else if (delta.sequence > current) {
+                  sequenceRef.current = delta.sequence;
+                  setPollData((prev) => (prev ? applyDeltaToResults(prev, delta) : prev));
+                }
               }
             } catch (err) {
               console.error('Error parsing WebSocket message:', err);
@@ -142,6 +188,7 @@ const LivePollResult: React.FC = () => {
         `${API_BASE_URL}/responses/${pollCode}/results`,
         { withCredentials: true }
       );
+      sequenceRef.current = response.data.sequence;
       setPollData(response.data);
       setError('');
       setLoading(false);
@@ -58,7 +58,6 @@ interface ShareModalProps {
   isOpen: boolean;
   pollCode: string;
   shareLink: string;
-  qrCode: string;
   onClose: () => void;
 }
 
@@ -66,11 +65,13 @@ const ShareModal: React.FC<ShareModalProps> = ({
   isOpen,
   pollCode,
   shareLink,
-  qrCode,
   onClose,
 }) => {
   if (!isOpen) return null;
 
+  const API_BASE_URL =
+    import.meta.env.VITE_API_BASE_URL || 'http://localhost:9092/pollapi';
+
   const handleCopy = (text: string, type: string) => {
     navigator.clipboard.writeText(text);
     alert(`${type} copied to clipboard!`);
@@ -140,7 +141,7 @@ const ShareModal: React.FC<ShareModalProps> = ({
             <label className="share-input-label">QR Code</label>
             <div className="share-qr-wrapper">
               <img
-                src={`/qrcodes/${qrCode}`}
+                src={`${API_BASE_URL}/polls/code/${pollCode}/qr?format=svg`}
                 alt="Poll QR Code"
                 className="share-qr-image"
                 onError={(e) => {
@@ -594,7 +595,6 @@ const PollResult: React.FC = () => {
           isOpen={shareModalOpen}
           pollCode={pollCode || ''}
           shareLink={`http://localhost:3000/poll/${pollCode}`}
-          qrCode={`qr_${pollCode}.png`}
           onClose={() => setShareModalOpen(false)}
         />
       )}
@@ -43,6 +43,9 @@ export const config = {
   // Submit poll response (POST) → /responses/submit
 submitResponseUrl: `${API_BASE_URL}/responses/submit`,
 
+  // Issue the voter_token cookie needed to vote (POST) → /responses/voter-token
+  voterTokenUrl: `${API_BASE_URL}/responses/voter-token`,
+
   // ==========================
   // 🛑 Poll Status Constants
   // ==========================